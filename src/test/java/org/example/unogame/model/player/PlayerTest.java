@@ -1,21 +0,0 @@
-package org.example.unogame.model.player;
-
-import org.example.unogame.model.card.Card;
-import org.example.unogame.model.exception.GameException;
-import org.junit.jupiter.api.Test;
-
-import static org.junit.jupiter.api.Assertions.*;
-
-class PlayerTest {
-
-    @Test
-    void testAddCard_addsCardToPlayerHand() throws GameException.NullCardException {
-        Player player = new Player("Human");
-        Card card = new Card("7", "BLUE");
-
-        player.addCard(card);
-
-        assertEquals(1, player.getCardsPlayer().size());
-        assertEquals(card, player.getCardsPlayer().get(0));
-    }
-}
\ No newline at end of file
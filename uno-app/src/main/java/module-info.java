@@ -2,6 +2,7 @@ module org.example.unogame {
     requires javafx.controls;
     requires javafx.fxml;
     requires java.sql;
+    requires transitive org.example.unogame.model;
 
 
     opens org.example.unogame to javafx.fxml;
@@ -9,6 +10,4 @@ module org.example.unogame {
     opens org.example.unogame.view.Alert to javafx.fxml;
     exports org.example.unogame;
     exports org.example.unogame.view.Alert;
-    exports org.example.unogame.model.machine.observers;
-    exports org.example.unogame.model.fileHanldlers;
 }
\ No newline at end of file
@@ -1,22 +1,32 @@
 package org.example.unogame.controller;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Future;
 
+import org.example.unogame.model.ai.OpponentModel;
 import org.example.unogame.model.card.Card;
+import org.example.unogame.model.card.CardCode;
+import org.example.unogame.model.card.CardIds;
 import org.example.unogame.model.deck.Deck;
 import org.example.unogame.model.exception.GameException;
 import org.example.unogame.model.fileHanldlers.ISerializableFileHandler;
 import org.example.unogame.model.fileHanldlers.SerializableFileHandler;
 import org.example.unogame.model.game.GameUno;
+import org.example.unogame.model.machine.GameRuntime;
 import org.example.unogame.model.machine.ThreadPlayMachine;
 import org.example.unogame.model.machine.ThreadSingUNOMachine;
 import org.example.unogame.model.machine.ThreadWinGame;
+import org.example.unogame.model.machine.TurnSignal;
 import org.example.unogame.model.machine.observers.observable;
 import org.example.unogame.model.machine.observers.observableClass;
 import org.example.unogame.model.player.Player;
+import org.example.unogame.model.rules.CardEffect;
+import org.example.unogame.model.rules.RulesEngine;
 import org.example.unogame.model.table.Table;
+import org.example.unogame.model.unoenum.UnoEnum;
+import org.example.unogame.view.CardView;
+import org.example.unogame.view.ImageRegistry;
 
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
@@ -27,6 +37,7 @@ import javafx.geometry.Insets;
 import javafx.scene.Node;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
+import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.GridPane;
@@ -51,12 +62,17 @@ import javafx.util.Duration;
  *   <li>Observer pattern for game events</li>
  * </ul>
  * 
- * <p>The controller uses multiple threads to handle concurrent game events:</p>
+ * <p>The controller coordinates these match workers; those that need threads run on a
+ * {@link GameRuntime} that is shut down when the stage closes:</p>
  * <ul>
  *   <li>ThreadPlayMachine: Handles machine player decisions</li>
- *   <li>ThreadSingUNOMachine: Monitors UNO calling opportunities</li>
- *   <li>ThreadWinGame: Checks for win conditions</li>
+ *   <li>ThreadSingUNOMachine: Opens UNO windows on one-card transitions, with deadlines on a shared timer</li>
+ *   <li>ThreadWinGame: Reacts to hand-size and deck events to detect the winner</li>
  * </ul>
+ *
+ * <p>Cards move from the deck into a hand under the table's lock, the same lock
+ * {@link Deck#takeCodeRecycling(Table)} takes, so the machine can snapshot the hands and the
+ * deck while it ponders during the human's turn.</p>
  * 
  * @author Uno Game Team
  * @version 1.0
@@ -118,8 +134,8 @@ public class GameUnoController {
     /** Animation controller for UI effects */
     private IAnimations animations;
     
-    /** Flag indicating if it's currently the human player's turn */
-    private volatile boolean isHumanTurn;
+    /** Turn-change signal; holds whose turn it is and wakes the machine worker on hand-over */
+    private final TurnSignal turnSignal = new TurnSignal(false);
     
     /** Flag indicating if the system is waiting for color selection after WILD/+4 */
     private volatile boolean waitingForColor = false;
@@ -156,8 +172,20 @@ public class GameUnoController {
     /** Flag controlling machine play thread execution */
     private boolean runningPlayMachineThread = true;
 
-    /** Thread for machine UNO calling logic */
+    /** Monitor for machine UNO calling logic */
     private ThreadSingUNOMachine threadSingUNOMachine;
+
+    /** Runtime owning every match worker: the machine play loop and the shared deadline timer */
+    private final GameRuntime runtime = new GameRuntime();
+
+    /** Headless Uno rules shared by the UI and the machine player */
+    private final RulesEngine rules = new RulesEngine();
+
+    /** What the machine has inferred about the human's hand in the current match */
+    private final OpponentModel opponentModel = new OpponentModel();
+
+    /** Handle of the machine play loop running on the runtime */
+    private Future<?> playMachineTask;
     
     /** Thread for machine player decision making */
     private ThreadPlayMachine threadPlayMachine;
@@ -218,44 +246,45 @@ public class GameUnoController {
     }
 
     /**
-     * Starts a new game by initializing all game components and starting worker threads.
+     * Starts a new game by initializing all game components, starting worker threads
+     * and attaching the win-condition watcher.
      * 
      * @throws GameException if game initialization fails
      */
     public void newGame() throws GameException {
+        stopMatchWorkers();
         initVariables();
         this.gameUno.startGame();
         updateGridPaneMargin();
 
-        tableImageView.setImage(this.table.getCurrentCardOnTheTable().getImage()); // mostrar visualmente a carta inciial en la mesa
+        tableImageView.setImage(CardView.image(this.table.getCurrentCardOnTheTable())); // mostrar visualmente a carta inciial en la mesa
         refreshGameView();
 
-        // Start machine behavior thread
+        // Start machine behavior worker on the runtime
         threadPlayMachine = new ThreadPlayMachine(this.table, this.machinePlayer, this.tableImageView, this, this.deck);
-        threadPlayMachine.start();
+        playMachineTask = runtime.submit(threadPlayMachine);
 
-        // Start UNO monitoring thread
+        // Start UNO monitor (reacts to one-card transitions, deadlines run on the shared timer)
         threadSingUNOMachine = new ThreadSingUNOMachine(
-                this.humanPlayer.getCardsPlayer(),
-                this.machinePlayer.getCardsPlayer(),
+                this.humanPlayer,
+                this.machinePlayer,
                 this,
-                this.threadPlayMachine
+                this.threadPlayMachine,
+                this.runtime
         );
-        Thread t = new Thread(threadSingUNOMachine, "ThreadSingUNO");
-        t.start();
+        threadSingUNOMachine.attach();
         
         // Register ThreadSingUNOMachine as observer
         addGameObserver(threadSingUNOMachine);
 
-        // Start win-condition monitoring thread
+        // Start win-condition watcher (reacts to hand-size and deck events)
         threadWinGame = new ThreadWinGame(
                 this.humanPlayer,
                 this.machinePlayer,
                 this.deck,
                 this
         );
-        Thread winThread = new Thread(threadWinGame, "ThreadWinGame");
-        winThread.start();
+        threadWinGame.attach();
     }
 
     /**
@@ -266,12 +295,13 @@ public class GameUnoController {
     private void initVariables() throws GameException {
         this.humanPlayer = new Player("HUMAN_PLAYER");
         this.machinePlayer = new Player("MACHINE_PLAYER");
-        this.deck = new Deck();
+        this.deck = new Deck(runtime.splitRandom());
         this.table = new Table();
         this.gameUno = new GameUno(this.humanPlayer, this.machinePlayer, this.deck, this.table);
         this.posInitCardToShow = 0;
-        this.isHumanTurn = true;
+        this.turnSignal.setHumanTurn(true);
         this.animations = new AnimationsAdapter();
+        this.opponentModel.reset();
     }
 
     /**
@@ -293,12 +323,12 @@ public class GameUnoController {
 
         for (int i = 0; i < currentVisibleCardsHumanPlayer.length; i++) {
             Card card = currentVisibleCardsHumanPlayer[i];
-            Rectangle cardRectangle = card.getCard();
+            Rectangle cardRectangle = CardView.rectangle(card);
             animations.applyHoverEffect(cardRectangle);
 
             cardRectangle.setOnMouseClicked((MouseEvent event) -> {
                 // Only act on the human turn and when no color selection is pending
-                if (!isHumanTurn) return;
+                if (!isHumanTurn()) return;
                 try {
                     if (!canPlayCard(card, table)) return;
                 } catch (GameException.EmptyTableException e) {
@@ -310,10 +340,11 @@ public class GameUnoController {
                     if (canPlayCard(card, table)) {
                         try {
                             gameUno.playCard(card);
+                            opponentModel.opponentPlayed(card.getId());
                         } catch (GameException.NullCardException e) {
                             throw new RuntimeException(e);
                         }
-                        tableImageView.setImage(card.getImage());
+                        tableImageView.setImage(CardView.image(card));
                         animations.cardAnimation(tableImageView);
                         try {
                             humanPlayer.removeCard(findPosCardsHumanPlayer(card));
@@ -355,29 +386,26 @@ public class GameUnoController {
     private void printCardsMachinePlayer() {
         this.gridPaneCardsMachine.getChildren().clear();
 
-        List<Card> safeCopy;
-        synchronized (machinePlayer) {
-            safeCopy = new ArrayList<>(machinePlayer.getCardsPlayer());
-        }
+        int handSize = machinePlayer.getHandSize();
 
         // Defensive: nothing to draw
-        if (safeCopy == null || safeCopy.size() == 0) {
+        if (handSize == 0) {
             return;
         }
 
         int maxVisibleCards = 4;
-        int cardsToShow = Math.min(safeCopy.size(), maxVisibleCards);
+        int cardsToShow = Math.min(handSize, maxVisibleCards);
 
         // Show up to four back-card placeholders
         for (int i = 0; i < cardsToShow; i++) {
-            Rectangle backCard = Card.getBackCardRectangle();
+            Rectangle backCard = CardView.back();
             animations.applyHoverEffect(backCard);
             this.gridPaneCardsMachine.add(backCard, i, 0);
         }
 
         // If more than four, add a count overlay to the last visible slot
-        if (safeCopy.size() > maxVisibleCards) {
-            int remaining = safeCopy.size() - maxVisibleCards;
+        if (handSize > maxVisibleCards) {
+            int remaining = handSize - maxVisibleCards;
             Label plusLabel = new Label("+" + remaining);
             plusLabel.setStyle("-fx-font-size: 16px; -fx-font-weight: bold; -fx-text-fill: white; -fx-background-color: rgba(0,0,0,0.8); -fx-padding: 5px;");
             this.gridPaneCardsMachine.add(plusLabel, maxVisibleCards - 1, 0);
@@ -391,7 +419,7 @@ public class GameUnoController {
      * @return the index of the card, or -1 if it is not present
      */
     private Integer findPosCardsHumanPlayer(Card card) {
-        for (int i = 0; i < this.humanPlayer.getCardsPlayer().size(); i++) {
+        for (int i = 0; i < this.humanPlayer.getHandSize(); i++) {
             if (this.humanPlayer.getCardsPlayer().get(i).equals(card)) {
                 return i;
             }
@@ -403,45 +431,17 @@ public class GameUnoController {
      * Determines if the provided card can be legally placed on the table
      * over the current top card according to Uno rules.
      *
+     * <p>Legality is delegated to the headless {@link RulesEngine}, passing the pending color
+     * selection so that no card can be played until a color is chosen. It has no side effects,
+     * so callers refresh the view themselves when something actually changes.</p>
+     *
      * @param cardPlay the card the player wants to play
      * @param table the table state reference
      * @return true if the move is valid; false otherwise
      * @throws GameException.EmptyTableException if no card is currently on the table
      */
     public boolean canPlayCard(Card cardPlay, Table table) throws GameException.EmptyTableException {
-        Card currentCard = table.getCurrentCardOnTheTable();
-
-        String colorToPlay = cardPlay.getColor();
-        String valueToPlay = cardPlay.getValue();
-
-        String colorOnTable = currentCard.getColor();
-        String valueOnTable = currentCard.getValue();
-
-        if (waitingForColor)
-            return false;
-
-        // Wild and +4 are always playable
-        if ("WILD".equals(valueToPlay) || "+4".equals(valueToPlay)) {
-            return true;
-        }
-
-        // After a +4, the same player may play any card
-        if ("+4".equals(valueOnTable)) {
-            return true;
-        }
-
-        // Match by color
-        if (colorToPlay != null && colorOnTable != null && colorToPlay.equals(colorOnTable)) {
-            return true;
-        }
-
-        // Match by value
-        if (valueToPlay != null && valueOnTable != null && valueToPlay.equals(valueOnTable)) {
-            return true;
-        }
-
-        refreshGameView();
-        return false;
+        return rules.canPlay(cardPlay.getCode(), table.getTopCode(), table.getTopColor(), waitingForColor);
     }
 
     /**
@@ -460,7 +460,8 @@ public class GameUnoController {
 
     /**
      * Loads a previously saved game state from file and restores all game components.
-     * Recreates worker threads with the loaded state.
+     * Stops the workers of any match already running, then recreates them with the loaded
+     * state on the same {@link GameRuntime}, so repeated loads do not pile up threads.
      */
     public void loadGameState() {
         try {
@@ -468,11 +469,16 @@ public class GameUnoController {
             GameUno loadedGame = (GameUno) handler.deserialize(SAVE_FILE_PATH);
             System.out.println("Juego cargado correctamente.");
 
+            // Detener los trabajadores de la partida anterior antes de crear los nuevos
+            stopMatchWorkers();
+
             this.humanPlayer = loadedGame.getHumanPlayer();
             this.machinePlayer = loadedGame.getMachinePlayer();
             this.table = loadedGame.getTable();
             this.deck = loadedGame.getDeck();
+            this.deck.setRandom(runtime.splitRandom());
             this.gameUno = new GameUno(this.humanPlayer, this.machinePlayer,this.deck, this.table);
+            this.opponentModel.reset();
 
             // Recrear hilos con los datos cargados y referencias actuales
             this.threadPlayMachine = new ThreadPlayMachine(
@@ -484,19 +490,21 @@ public class GameUnoController {
             );
 
             this.threadSingUNOMachine = new ThreadSingUNOMachine(
-                    this.humanPlayer.getCardsPlayer(),
-                    this.machinePlayer.getCardsPlayer(),
+                    this.humanPlayer,
+                    this.machinePlayer,
                     this,
-                    this.threadPlayMachine
+                    this.threadPlayMachine,
+                    this.runtime
             );
             this.threadWinGame = new ThreadWinGame(this.humanPlayer, this.machinePlayer, this.deck, this);
 
             this.threadWinGame.init(this);
 
             // Iniciar los hilos
-            new Thread(threadPlayMachine, "ThreadPlayMachine").start();
-            new Thread(threadSingUNOMachine, "ThreadSingUNOMachine").start();
-            new Thread(threadWinGame, "ThreadWinGame").start();
+            this.playMachineTask = runtime.submit(threadPlayMachine);
+            this.threadSingUNOMachine.attach();
+            addGameObserver(threadSingUNOMachine);
+            this.threadWinGame.attach();
 
             updateGameUI();
 
@@ -541,6 +549,67 @@ public class GameUnoController {
         });
     }
 
+    /**
+     * Shuts the game runtime down when the stage is hidden, whether it was closed by the
+     * user, by the exit button, or by the end of the game.
+     *
+     * @param stage the stage whose lifetime bounds the match workers
+     */
+    public void setupRuntimeTeardownOnClose(Stage stage) {
+        stage.setOnHidden(event -> shutdownRuntime());
+    }
+
+    /**
+     * Stops every worker of the current match and shuts the game runtime down.
+     * Safe to call more than once.
+     */
+    public void shutdownRuntime() {
+        stopMatchWorkers();
+        runtime.shutdown();
+    }
+
+    /**
+     * @return the runtime owning the match workers, e.g. to report live threads and queued tasks
+     */
+    public GameRuntime getRuntime() {
+        return runtime;
+    }
+
+    /**
+     * @return the headless rules engine shared by the UI and the machine player
+     */
+    public RulesEngine getRulesEngine() {
+        return rules;
+    }
+
+    /**
+     * @return what the machine has inferred about the human's hand in the current match
+     */
+    public OpponentModel getOpponentModel() {
+        return opponentModel;
+    }
+
+    /**
+     * Stops the machine play loop, the UNO monitor and the win watcher of the current match,
+     * if any. The runtime threads are kept for the next match.
+     */
+    private void stopMatchWorkers() {
+        if (threadPlayMachine != null) {
+            threadPlayMachine.setRunning(false);
+        }
+        if (playMachineTask != null) {
+            playMachineTask.cancel(true);
+            playMachineTask = null;
+        }
+        if (threadSingUNOMachine != null) {
+            threadSingUNOMachine.setRunning(false);
+            removeGameObserver(threadSingUNOMachine);
+        }
+        if (threadWinGame != null) {
+            threadWinGame.detach();
+        }
+    }
+
     /**
      * Applies the effect of a special card and manages turn flow accordingly.
      *
@@ -557,11 +626,10 @@ public class GameUnoController {
             throws GameException.EmptyTableException, GameException.IllegalCardColor, GameException.OutOfCardsInDeck,
             GameException.NullCardException, GameException.InvalidCardIndex {
 
-        String value = card.getValue();
-        Card currentCard = table.getCurrentCardOnTheTable();
+        CardEffect effect = rules.effectOf(card);
 
-        switch (value) {
-            case "WILD":
+        switch (effect) {
+            case WILD:
                 if (currentPlayer.equals(humanPlayer)) {
                     this.card = card;
                     deckButton.setDisable(true);
@@ -569,52 +637,57 @@ public class GameUnoController {
                     setHumanTurn(true); // keep turn until the user chooses a color
                     showColorPicker();
                 } else {
-                    String randomColor = threadPlayMachine.getRandomColorFromHand();
-                    table.setColorOnTheTable(randomColor);
-                    currentCard.setColor(randomColor);
+                    String machineColor = threadPlayMachine.chooseColor();
+                    table.setColorOnTheTable(machineColor);
                     // pass turn to the opponent after auto color selection
                     setHumanTurn(!currentPlayer.equals(humanPlayer));
-                    deckButton.setDisable(!isHumanTurn);
+                    deckButton.setDisable(!isHumanTurn());
                 }
                 break;
 
-            case "+2":
-                for (int i = 0; i < 2; i++) {
-                    otherPlayer.addCard(deck.takeCard());
+            case DRAW_TWO:
+                synchronized (table) {
+                    deck.drawN(otherPlayer, effect.getDrawPenalty());
+                }
+                if (otherPlayer.equals(humanPlayer)) {
+                    opponentModel.opponentDrew();
                 }
                 // the player who plays +2 takes another turn
                 setHumanTurn(currentPlayer.equals(humanPlayer));
-                deckButton.setDisable(!isHumanTurn);
+                deckButton.setDisable(!isHumanTurn());
                 break;
 
-            case "+4":
-                for (int i = 0; i < 4; i++) {
-                    otherPlayer.addCard(deck.takeCard());
+            case DRAW_FOUR:
+                synchronized (table) {
+                    deck.drawN(otherPlayer, effect.getDrawPenalty());
+                }
+                if (otherPlayer.equals(humanPlayer)) {
+                    opponentModel.opponentDrew();
                 }
                 if (currentPlayer.equals(humanPlayer)) {
                     // the player who plays +4 takes another turn; color will be chosen via UI
                     setHumanTurn(currentPlayer.equals(humanPlayer));
-                    deckButton.setDisable(!isHumanTurn);
+                    deckButton.setDisable(!isHumanTurn());
                 } else {
-                    String randomColor = threadPlayMachine.getRandomColorFromHand();
-                    table.setColorOnTheTable(randomColor);
+                    String machineColor = threadPlayMachine.chooseColor();
+                    table.setColorOnTheTable(machineColor);
                     // the player who plays +4 takes another turn
                     setHumanTurn(currentPlayer.equals(humanPlayer));
-                    deckButton.setDisable(!isHumanTurn);
+                    deckButton.setDisable(!isHumanTurn());
                 }
                 break;
 
-            case "SKIP":
-            case "RESERVE":
+            case SKIP:
+            case RESERVE:
                 // the player who plays SKIP/RESERVE takes another turn
                 setHumanTurn(currentPlayer.equals(humanPlayer));
-                deckButton.setDisable(!isHumanTurn);
+                deckButton.setDisable(!isHumanTurn());
                 break;
 
             default:
                 // normal card: pass turn to the opponent
                 setHumanTurn(!currentPlayer.equals(humanPlayer));
-                deckButton.setDisable(!isHumanTurn);
+                deckButton.setDisable(!isHumanTurn());
                 break;
         }
     }
@@ -626,7 +699,7 @@ public class GameUnoController {
      * @return true if the value matches a special card; false otherwise
      */
     public boolean isSpecial(String value) {
-        return "SKIP".equals(value) || "+2".equals(value) || "+4".equals(value) || "RESERVE".equals(value) || "WILD".equals(value);
+        return rules.isSpecial(value);
     }
 
     /**
@@ -640,10 +713,10 @@ public class GameUnoController {
         Card[] currentVisibleCardsHumanPlayer = this.gameUno.getCurrentVisibleCardsHumanPlayer(this.posInitCardToShow);
 
         for (int i = 0; i < currentVisibleCardsHumanPlayer.length; i++) {
-            Rectangle cardRectangle = card.getCard();
+            Rectangle cardRectangle = CardView.rectangle(card);
             cardRectangle.setOnMouseClicked((MouseEvent event) -> {
                 // While choosing a color, do not allow further human plays
-                if (isHumanTurn) return;
+                if (isHumanTurn()) return;
             });
         }
     }
@@ -659,12 +732,13 @@ public class GameUnoController {
 
     /**
      * Updates the internal and UI state to reflect whose turn it is.
+     * Handing the turn to the machine releases the machine worker parked on the {@link TurnSignal}.
      *
      * @param humanTurn true if it is the human's turn; false for the machine
      * @throws GameException.EmptyTableException if updating the label requires the current table color and it is missing
      */
     public void setHumanTurn(boolean humanTurn) throws GameException.EmptyTableException {
-        this.isHumanTurn = humanTurn;
+        turnSignal.setHumanTurn(humanTurn);
         deckButton.setDisable(!humanTurn);
         updateTurnLabel();
     }
@@ -673,7 +747,14 @@ public class GameUnoController {
      * @return true if it is currently the human's turn; false otherwise
      */
     public boolean isHumanTurn() {
-        return isHumanTurn;
+        return turnSignal.isHumanTurn();
+    }
+
+    /**
+     * @return the turn-change signal the machine worker parks on while the human plays
+     */
+    public TurnSignal getTurnSignal() {
+        return turnSignal;
     }
 
     /**
@@ -844,7 +925,7 @@ public class GameUnoController {
      * @throws GameException.EmptyTableException if the table color cannot be obtained
      */
     private void updateTurnLabel() throws GameException.EmptyTableException {
-        String turn = isHumanTurn ? "humano" : "máquina";
+        String turn = isHumanTurn() ? "humano" : "máquina";
         String color = table.getColorOnTheTable();
         Platform.runLater(() -> {
             turnLabel.setText("Turno: " + turn + " | Color: " + color);
@@ -908,7 +989,7 @@ public class GameUnoController {
      */
     @FXML
     void onHandleNext(MouseEvent event) throws GameException.InvalidCardIndex, GameException.EmptyTableException {
-        if (this.posInitCardToShow < this.humanPlayer.getCardsPlayer().size() - 4) {
+        if (this.posInitCardToShow < this.humanPlayer.getHandSize() - 4) {
             this.posInitCardToShow++;
             printCardsHumanPlayer();
         }
@@ -926,11 +1007,9 @@ public class GameUnoController {
     private void onColorSelected(ActionEvent event) throws GameException.EmptyTableException, GameException.IllegalCardColor {
         Button source = (Button) event.getSource();
         String selectedColor = source.getText().toUpperCase();
-        Card currentCard = table.getCurrentCardOnTheTable();
-
-        // Update color on the table and on the current card
+        // Update the declared color of the wild on the table
         table.setColorOnTheTable(selectedColor);
-        currentCard.setColor(selectedColor);
+        opponentModel.opponentDeclared(CardIds.colorIndex(selectedColor));
         hideColorPicker();
         setWaitingForColor(false);
         setHumanTurn(false);
@@ -956,18 +1035,17 @@ public class GameUnoController {
     @FXML
     void onHandleTakeCard(MouseEvent event) throws GameException.IllegalCardColor, GameException.OutOfCardsInDeck, GameException.NullCardException, GameException.InvalidCardIndex, GameException.EmptyTableException {
         // Only allow if it's the human's turn, not disabled, and not waiting for a wild color
-        if (!isHumanTurn) return;
+        if (!isHumanTurn()) return;
         if (deckButton.isDisable()) return;
         if (waitingForColor) return;
 
-        if (deck.isEmpty()) {
-            // Recycle discards back into the deck; wild/+4 reset to black when requested
-            List<Card> discards = table.collectDiscardsExceptTop(true); // true = resets wild/ +4 to black
-            deck.reloadFrom(discards);
-        }
+        // Drawing instead of playing tells the machine which cards the human probably lacks
+        opponentModel.opponentPassed(CardCode.toId(table.getTopCode()), table.getTopColor());
 
-        Card drawCard = deck.takeCard();
-        humanPlayer.addCard(drawCard);
+        // Draw, recycling the discards back into the deck if it is empty
+        synchronized (table) {
+            humanPlayer.addCode(deck.takeCodeRecycling(table));
+        }
         printCardsHumanPlayer();
 
         if (!gridPaneCardsPlayer.getChildren().isEmpty()) {
@@ -1003,14 +1081,14 @@ public class GameUnoController {
      */
     @FXML
     void onHandleUno(MouseEvent event) {
-        if (humanPlayer.getCardsPlayer().size() == 1) {
+        if (humanPlayer.getHandSize() == 1) {
             // Cancelar timer inmediatamente
             cancelUNOTimer();
             
             // Notificar evento usando Observer pattern
             gameEvents.notification("HUMAN_SAID_UNO");
             setTurnLabel("¡UNO cantado correctamente!");
-        } else if (machinePlayer.getCardsPlayer().size() == 1) {
+        } else if (machinePlayer.getHandSize() == 1) {
             // Cancelar timer inmediatamente
             cancelUNOTimer();
             
@@ -1060,14 +1138,11 @@ public class GameUnoController {
      * @throws GameException.EmptyTableException if the table is unexpectedly empty
      */
     public void penalizeHumanForNotCallingUNO() throws GameException.OutOfCardsInDeck, GameException.NullCardException, GameException.IllegalCardColor, GameException.InvalidCardIndex, GameException.EmptyTableException {
-        if (deck.isEmpty()) {
-            // recicla las cartas descartadas excepto la última
-            List<Card> discards = table.collectDiscardsExceptTop(true);
-            deck.reloadFrom(discards);
+        // recicla las cartas descartadas excepto la última si el mazo está vacío
+        synchronized (table) {
+            humanPlayer.addCode(deck.takeCodeRecycling(table));
         }
-        
-        Card penaltyCard = deck.takeCard();
-        humanPlayer.addCard(penaltyCard);
+        opponentModel.opponentDrew();
 
         Platform.runLater(() -> {
             try {
@@ -1148,14 +1223,10 @@ public class GameUnoController {
      * @throws GameException.IllegalCardColor if an illegal color operation occurs
      */
     public void penalizeMachineForNotCallingUNO() throws GameException.OutOfCardsInDeck, GameException.NullCardException, GameException.IllegalCardColor {
-        if (deck.isEmpty()) {
-            // Recycle discards back into the deck
-            List<Card> discards = table.collectDiscardsExceptTop(true);
-            deck.reloadFrom(discards);
+        // Draw, recycling the discards back into the deck if it is empty
+        synchronized (table) {
+            machinePlayer.addCode(deck.takeCodeRecycling(table));
         }
-        
-        Card penaltyCard = deck.takeCard();
-        machinePlayer.addCard(penaltyCard);
 
         Platform.runLater(() -> {
             // actualiza el turno y el label para mostrar la penalización - MAQUINA
@@ -1179,9 +1250,8 @@ public class GameUnoController {
 
         for (int i = 0; i < playerCards.size(); i++) {
             Card card = playerCards.get(i);
-            javafx.scene.image.Image image = new javafx.scene.image.Image(card.getImagePath());
             System.out.println("ruta de la imagen: " + card.getImagePath());
-            ImageView imageView = new ImageView(image);
+            ImageView imageView = new ImageView(CardView.image(card));
             imageView.setFitHeight(120);
             imageView.setFitWidth(80);
             gridPaneCardsPlayer.add(imageView, i, 0);
@@ -1195,7 +1265,7 @@ public class GameUnoController {
      */
     private void updatePlayedCard(Card topCard) {
         if (topCard != null) {
-            tableImageView.setImage(new javafx.scene.image.Image(getClass().getResourceAsStream("/org/example/unogame/cards-uno/" + topCard.getImageName())));
+            tableImageView.setImage(CardView.image(topCard));
         }
     }
 
@@ -1205,9 +1275,10 @@ public class GameUnoController {
      */
     private void updateMachineCardBack() {
         gridPaneCardsMachine.getChildren().clear();
-        int cardCount = machinePlayer.getCardsPlayer().size();
+        int cardCount = machinePlayer.getHandSize();
+        Image backImage = ImageRegistry.image(UnoEnum.CARD_UNO);
         for (int i = 0; i < cardCount; i++) {
-            ImageView backView = new ImageView(new javafx.scene.image.Image(getClass().getResourceAsStream("/org/example/unogame/cards-uno/back.png")));
+            ImageView backView = new ImageView(backImage);
             backView.setFitWidth(80);
             backView.setFitHeight(120);
             gridPaneCardsMachine.add(backView, i, 0);
@@ -0,0 +1,247 @@
+package org.example.unogame.model.machine;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.random.RandomGenerator;
+
+import org.example.unogame.model.ai.Difficulty;
+import org.example.unogame.model.ai.IMachineStrategy;
+import org.example.unogame.model.ai.MachineStrategyType;
+
+/**
+ * Owns every worker thread of a match: the machine play loop and the timer on which
+ * UNO reaction deadlines are scheduled.
+ *
+ * <p>All work runs on one bounded {@link ScheduledThreadPoolExecutor} with
+ * {@value #WORKER_THREADS} daemon threads: one is held by the machine play loop (parked
+ * while the human plays) and the other serves scheduled deadlines. Starting a new or
+ * loaded match reuses the same threads, so a long-running session keeps a flat thread
+ * count.</p>
+ *
+ * <p>The runtime also carries the session's {@link PacingProfile}, {@link Difficulty},
+ * {@link MachineStrategyType} and {@link PonderPolicy}, so every worker reads its delays and policy from one place, and the session's random generator. Every consumer of randomness
+ * (deck shuffles, the machine's choices, UNO reaction delays) takes its own stream through
+ * {@link #splitRandom()}, so no generator is shared between threads. The session seed can be
+ * fixed with the {@value #SEED_PROPERTY} system property (e.g., {@code -Duno.seed=42}) to
+ * replay the same games for benchmarks and regression runs.</p>
+ *
+ * <h2>Lifecycle</h2>
+ * <ul>
+ *   <li>{@link #submit(Runnable)} starts a long-running match worker.</li>
+ *   <li>{@link #getScheduler()} exposes the shared timer for one-shot deadlines.</li>
+ *   <li>{@link #shutdown()} interrupts every worker, drops queued deadlines and waits for the
+ *       threads to exit; it is called when the game stage closes.</li>
+ * </ul>
+ */
+public class GameRuntime {
+
+    /** Number of pooled threads: one for the machine play loop, one for deadlines. */
+    public static final int WORKER_THREADS = 2;
+
+    /** System property used to fix the session seed. */
+    public static final String SEED_PROPERTY = "uno.seed";
+
+    /** Maximum time {@link #shutdown()} waits for workers to exit, in milliseconds. */
+    private static final long SHUTDOWN_TIMEOUT = 1000;
+
+    /** Bounded pool shared by every worker of the match. */
+    private final ScheduledThreadPoolExecutor scheduler;
+
+    /** Pacing of the machine's delays, fixed for the whole session. */
+    private final PacingProfile pacing;
+
+    /** Strength of the machine player, fixed for the whole session. */
+    private final Difficulty difficulty;
+
+    /** Policy of the machine player, fixed for the whole session. */
+    private final MachineStrategyType strategyType;
+
+    /** Whether the machine thinks during the human's turn, fixed for the whole session. */
+    private final PonderPolicy ponder;
+
+    /** Seed of the session's random generator. */
+    private final long seed;
+
+    /** Root generator of the session; only used to split off independent streams. */
+    private final SplittableRandom sessionRandom;
+
+    /**
+     * Creates a runtime paced by the profile selected through {@link PacingProfile#PROPERTY},
+     * playing the strategy and difficulty selected through {@link MachineStrategyType#PROPERTY}
+     * and {@link Difficulty#PROPERTY}, pondering as set through {@link PonderPolicy#PROPERTY},
+     * and seeded through {@value #SEED_PROPERTY}.
+     */
+    public GameRuntime() {
+        this(PacingProfile.fromSystemProperty(), Difficulty.fromSystemProperty(),
+                MachineStrategyType.fromSystemProperty(), seedFromSystemProperty(), PonderPolicy.fromSystemProperties());
+    }
+
+    /**
+     * Creates a runtime that does not ponder.
+     *
+     * @param pacing       pacing of the machine's delays for this session
+     * @param difficulty   strength of the machine player for this session
+     * @param strategyType policy of the machine player for this session
+     * @param seed         seed of the session's random generator
+     */
+    public GameRuntime(PacingProfile pacing, Difficulty difficulty, MachineStrategyType strategyType, long seed) {
+        this(pacing, difficulty, strategyType, seed, PonderPolicy.OFF);
+    }
+
+    /**
+     * Creates a runtime with {@value #WORKER_THREADS} named daemon threads, started on demand.
+     *
+     * @param pacing       pacing of the machine's delays for this session
+     * @param difficulty   strength of the machine player for this session
+     * @param strategyType policy of the machine player for this session
+     * @param seed         seed of the session's random generator
+     * @param ponder       whether the machine thinks during the human's turn in this session
+     */
+    public GameRuntime(PacingProfile pacing, Difficulty difficulty, MachineStrategyType strategyType, long seed,
+                       PonderPolicy ponder) {
+        this.pacing = pacing;
+        this.difficulty = difficulty;
+        this.strategyType = strategyType;
+        this.ponder = ponder;
+        this.seed = seed;
+        this.sessionRandom = new SplittableRandom(seed);
+        AtomicInteger threadNumber = new AtomicInteger(1);
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "UnoRuntime-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+        this.scheduler = new ScheduledThreadPoolExecutor(WORKER_THREADS, threadFactory);
+        this.scheduler.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Starts a long-running match worker on the pool.
+     *
+     * @param worker the worker to run (e.g., the machine play loop)
+     * @return a future that can be cancelled (with interruption) to stop the worker
+     */
+    public Future<?> submit(Runnable worker) {
+        return scheduler.submit(worker);
+    }
+
+    /**
+     * @return the shared timer on which one-shot deadlines are scheduled
+     */
+    public ScheduledExecutorService getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * @return the pacing of the machine's delays for this session
+     */
+    public PacingProfile getPacing() {
+        return pacing;
+    }
+
+    /**
+     * @return the strength of the machine player for this session
+     */
+    public Difficulty getDifficulty() {
+        return difficulty;
+    }
+
+    /**
+     * @return the policy of the machine player for this session
+     */
+    public MachineStrategyType getStrategyType() {
+        return strategyType;
+    }
+
+    /**
+     * @return whether the machine thinks during the human's turn in this session
+     */
+    public PonderPolicy getPonder() {
+        return ponder;
+    }
+
+    /**
+     * Creates the session's machine strategy with its own random stream.
+     *
+     * @return a new strategy of the session's type and difficulty
+     */
+    public IMachineStrategy newMachineStrategy() {
+        return strategyType.create(difficulty, splitRandom());
+    }
+
+    /**
+     * @return the seed of the session's random generator, to replay the session
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Splits an independent random stream off the session generator. Streams are handed out
+     * in call order, so a session started with the same seed gets the same streams.
+     *
+     * @return a generator owned by the caller alone
+     */
+    public synchronized RandomGenerator splitRandom() {
+        return sessionRandom.split();
+    }
+
+    /**
+     * Resolves the seed fixed through the {@value #SEED_PROPERTY} system property.
+     * Missing or invalid values fall back to a fresh random seed.
+     *
+     * @return the session seed
+     */
+    public static long seedFromSystemProperty() {
+        String value = System.getProperty(SEED_PROPERTY);
+        if (value != null && !value.isBlank()) {
+            try {
+                return Long.parseLong(value.trim());
+            } catch (NumberFormatException e) {
+                System.err.println("[GameRuntime] Semilla inválida: " + value + ", se usa una aleatoria.");
+            }
+        }
+        return new SplittableRandom().nextLong();
+    }
+
+    /**
+     * @return the number of threads currently alive in the pool (never above {@value #WORKER_THREADS})
+     */
+    public int getLiveThreadCount() {
+        return scheduler.getPoolSize();
+    }
+
+    /**
+     * @return the number of tasks waiting in the queue, including pending deadlines
+     */
+    public int getQueuedTaskCount() {
+        return scheduler.getQueue().size();
+    }
+
+    /**
+     * @return {@code true} once {@link #shutdown()} has been called
+     */
+    public boolean isShutdown() {
+        return scheduler.isShutdown();
+    }
+
+    /**
+     * Interrupts every running worker, discards queued tasks and waits briefly for the
+     * pooled threads to exit. Calling it more than once has no further effect.
+     */
+    public void shutdown() {
+        scheduler.shutdownNow();
+        try {
+            if (!scheduler.awaitTermination(SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                System.err.println("[GameRuntime] Los hilos no terminaron a tiempo.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package org.example.unogame.model.machine;
+
+/**
+ * Pacing of the machine's artificial delays for a game session.
+ *
+ * <p>Every delay the machine waits on purpose (thinking before a move, reacting to an
+ * UNO window) is taken from the session's profile instead of being hard-coded:</p>
+ * <ul>
+ *   <li>{@link #NORMAL}: human-facing delays, the default.</li>
+ *   <li>{@link #FAST}: short delays for demos and manual testing.</li>
+ *   <li>{@link #TURBO}: no delays at all, for machine-only and automated regression runs.</li>
+ * </ul>
+ *
+ * <p>The profile is chosen once per session through the {@value #PROPERTY} system property
+ * (e.g., {@code -Duno.pacing=TURBO}); see {@link #fromSystemProperty()}.</p>
+ */
+public enum PacingProfile {
+    NORMAL(2000, 2000, 4000),
+    FAST(300, 500, 1000),
+    TURBO(0, 0, 0);
+
+    /** System property used to select the profile for a session. */
+    public static final String PROPERTY = "uno.pacing";
+
+    /** Time the machine "thinks" before each move, in milliseconds; search strategies decide during it. */
+    private final long machineThinkMillis;
+
+    /** Minimum machine reaction time once a hand reaches one card, in milliseconds. */
+    private final long minUnoReactionMillis;
+
+    /** Maximum machine reaction time once a hand reaches one card, in milliseconds. */
+    private final long maxUnoReactionMillis;
+
+    PacingProfile(long machineThinkMillis, long minUnoReactionMillis, long maxUnoReactionMillis) {
+        this.machineThinkMillis = machineThinkMillis;
+        this.minUnoReactionMillis = minUnoReactionMillis;
+        this.maxUnoReactionMillis = maxUnoReactionMillis;
+    }
+
+    /**
+     * @return the time the machine waits before each move, in milliseconds
+     */
+    public long getMachineThinkMillis() {
+        return machineThinkMillis;
+    }
+
+    /**
+     * Maps a uniform random sample to a machine reaction time for an UNO window.
+     *
+     * @param random a sample in {@code [0, 1)}
+     * @return a delay between the profile's minimum and maximum reaction time, in milliseconds
+     */
+    public long unoReactionMillis(double random) {
+        return minUnoReactionMillis + (long) (random * (maxUnoReactionMillis - minUnoReactionMillis));
+    }
+
+    /**
+     * Resolves the profile selected through the {@value #PROPERTY} system property.
+     * Unknown or missing values fall back to {@link #NORMAL}.
+     *
+     * @return the session's pacing profile
+     */
+    public static PacingProfile fromSystemProperty() {
+        String name = System.getProperty(PROPERTY);
+        if (name == null || name.isBlank()) {
+            return NORMAL;
+        }
+        try {
+            return valueOf(name.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            System.err.println("[PacingProfile] Perfil desconocido: " + name + ", se usa NORMAL.");
+            return NORMAL;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package org.example.unogame.model.machine;
+
+/**
+ * Whether the machine thinks during the human's turn, and how much CPU it may take.
+ *
+ * <p>Pondering is off by default. It is enabled for a session through the
+ * {@value #PROPERTY} system property, and its share of the machine's cores through
+ * {@value #SHARE_PROPERTY} (e.g., {@code -Duno.ponder=true -Duno.ponder.share=0.25}); see
+ * {@link #fromSystemProperties()}. The machine ponders on its own play thread, in slices of
+ * {@value #SLICE_MILLIS} ms, and idles between slices so that the single pondering thread
+ * never uses more than that share of all cores; the rest stays available to the JavaFX
+ * application thread.</p>
+ */
+public final class PonderPolicy {
+
+    /** System property enabling pondering for a session. */
+    public static final String PROPERTY = "uno.ponder";
+
+    /** System property with the share of the cores pondering may use, in {@code (0, 1]}. */
+    public static final String SHARE_PROPERTY = "uno.ponder.share";
+
+    /** Share of the cores used when none is configured. */
+    public static final double DEFAULT_SHARE = 0.25;
+
+    /** Length of one pondering slice, in milliseconds. */
+    public static final long SLICE_MILLIS = 50;
+
+    /** No pondering. */
+    public static final PonderPolicy OFF = new PonderPolicy(false, 0);
+
+    /** Whether the machine ponders. */
+    private final boolean enabled;
+
+    /** Share of all cores pondering may use. */
+    private final double cpuShare;
+
+    private PonderPolicy(boolean enabled, double cpuShare) {
+        this.enabled = enabled;
+        this.cpuShare = cpuShare;
+    }
+
+    /**
+     * @param cpuShare share of all cores pondering may use, in {@code (0, 1]}
+     * @return a policy that ponders within that share
+     * @throws IllegalArgumentException if the share is outside {@code (0, 1]}
+     */
+    public static PonderPolicy withShare(double cpuShare) {
+        if (!(cpuShare > 0 && cpuShare <= 1)) {
+            // Keep message in Spanish by design
+            throw new IllegalArgumentException("La fracción de CPU debe estar entre 0 y 1.");
+        }
+        return new PonderPolicy(true, cpuShare);
+    }
+
+    /**
+     * Resolves the policy configured through {@value #PROPERTY} and {@value #SHARE_PROPERTY}.
+     * Pondering stays off unless the first is {@code true}; a missing or invalid share falls
+     * back to {@value #DEFAULT_SHARE}.
+     *
+     * @return the session's pondering policy
+     */
+    public static PonderPolicy fromSystemProperties() {
+        if (!Boolean.parseBoolean(System.getProperty(PROPERTY, "false").trim())) {
+            return OFF;
+        }
+        String value = System.getProperty(SHARE_PROPERTY);
+        if (value != null && !value.isBlank()) {
+            try {
+                return withShare(Double.parseDouble(value.trim()));
+            } catch (IllegalArgumentException e) {
+                System.err.println("[PonderPolicy] Fracción de CPU inválida: " + value + ", se usa " + DEFAULT_SHARE + ".");
+            }
+        }
+        return withShare(DEFAULT_SHARE);
+    }
+
+    /**
+     * @return {@code true} if the machine ponders during the human's turn
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return the share of all cores pondering may use
+     */
+    public double getCpuShare() {
+        return cpuShare;
+    }
+
+    /**
+     * Computes how long the pondering thread must idle after working for {@code busyNanos},
+     * so that its average use stays within the share of {@code processors} cores.
+     *
+     * @param busyNanos  time just spent pondering, in nanoseconds
+     * @param processors number of cores of the machine
+     * @return the idle time, in nanoseconds; {@code 0} when one full core is within the share
+     */
+    public long idleNanos(long busyNanos, int processors) {
+        double duty = Math.min(1.0, cpuShare * processors);
+        return (long) (busyNanos * (1 - duty) / duty);
+    }
+}
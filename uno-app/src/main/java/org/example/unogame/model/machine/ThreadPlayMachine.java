@@ -0,0 +1,311 @@
+package org.example.unogame.model.machine;
+
+import java.io.Serializable;
+import java.util.concurrent.TimeUnit;
+
+import org.example.unogame.controller.AnimationsAdapter;
+import org.example.unogame.controller.GameUnoController;
+import org.example.unogame.controller.IAnimations;
+import org.example.unogame.model.ai.IMachineStrategy;
+import org.example.unogame.model.ai.MachineView;
+import org.example.unogame.model.card.Card;
+import org.example.unogame.model.card.CardIds;
+import org.example.unogame.model.deck.Deck;
+import org.example.unogame.model.exception.GameException;
+import org.example.unogame.model.machine.observers.observable;
+import org.example.unogame.model.machine.observers.observableClass;
+import org.example.unogame.model.player.Player;
+import org.example.unogame.model.table.Table;
+import org.example.unogame.view.Alert.AlertBox;
+import org.example.unogame.view.CardView;
+
+import javafx.application.Platform;
+import javafx.scene.image.ImageView;
+
+/**
+ * Background worker that automates the machine player's turns.
+ *
+ * <p>When it is not the human's turn, this thread attempts to play a valid card
+ * from the machine hand; if none is available, it draws one card. It updates
+ * the table image and triggers UI animations on the JavaFX thread.</p>
+ *
+ * <p>The session's think time is not slept through: the strategy decides during it
+ * (see {@link IMachineStrategy#chooseMove(MachineView, long)}) and the thread only waits
+ * out what is left, so a search plays stronger at the same pace.</p>
+ *
+ * <h2>Threading</h2>
+ * <ul>
+ *   <li>Runs as a long-lived task on the match's {@link GameRuntime}.</li>
+ *   <li>While it is the human's turn the thread parks on the controller's {@link TurnSignal}
+ *       and uses no CPU; it wakes up only when the turn is handed to the machine.</li>
+ *   <li>If the session's {@link PonderPolicy} enables it, the thread first ponders the
+ *       human's likely moves (see {@link IMachineStrategy#ponder}), idling between slices to
+ *       stay within its CPU share, and parks once there is nothing left to ponder.</li>
+ *   <li>UI updates are wrapped in {@link Platform#runLater(Runnable)}.</li>
+ *   <li>The loop exits when {@link #setRunning(boolean)} is called with {@code false}
+ *       or when the thread is interrupted while parked or sleeping.</li>
+ * </ul>
+ */
+public class ThreadPlayMachine implements Runnable, Serializable {
+    private Table table;
+    private Player machinePlayer;
+    //private ImageView tableImageView;
+    //private GameUnoController controller;
+    private Deck deck;
+    private volatile boolean running = true;
+    private IAnimations animations = new AnimationsAdapter();
+    private observable observable = new observableClass();
+    private AlertBox alertBox = new AlertBox();
+
+    private transient ImageView tableImageView;
+    private transient GameUnoController controller;
+
+    /** Policy deciding the machine's moves, colors and UNO reactions. */
+    private transient volatile IMachineStrategy strategy;
+
+    /**
+     * Creates a machine-play thread bound to the current table, machine player, and UI.
+     *
+     * @param table          the shared table state (top card, discards)
+     * @param machinePlayer  the machine player instance
+     * @param tableImageView image view displaying the top card on the table
+     * @param controller     controller used to query rules and flip turns
+     * @param deck           the shared deck used to draw when needed
+     */
+    public ThreadPlayMachine(Table table, Player machinePlayer, ImageView tableImageView, GameUnoController controller, Deck deck) {
+        this.table = table;
+        this.machinePlayer = machinePlayer;
+        this.tableImageView = tableImageView;
+        this.controller = controller;
+        this.deck = deck;
+        this.strategy = controller.getRuntime().newMachineStrategy();
+    }
+
+    /**
+     * Main loop: parks until the turn is handed to the machine, lets the strategy think for the
+     * session's think time (see {@link PacingProfile}), plays its card, otherwise draws, then refreshes the UI.
+     */
+    @Override
+    public void run() {
+        TurnSignal turnSignal = controller.getTurnSignal();
+        long thinkMillis = controller.getRuntime().getPacing().getMachineThinkMillis();
+        PonderPolicy ponder = controller.getRuntime().getPonder();
+        while (running) {
+            try {
+                if (ponder.isEnabled()) {
+                    ponder(turnSignal, ponder);
+                }
+                if (running) {
+                    turnSignal.awaitMachineTurn();
+                }
+            } catch (InterruptedException e) {
+                // If interrupted, exit the thread.
+                return;
+            }
+
+            if (running && !turnSignal.isHumanTurn()) {
+                controller.refreshGameView();
+                try {
+                    putCardOnTheTable(think(turnSignal, thinkMillis));
+                } catch (InterruptedException e) {
+                    // If interrupted, exit the thread.
+                    return;
+                } catch (GameException.InvalidCardIndex e) {
+                    System.err.println("Índice inválido al jugar carta de máquina: " + e.getMessage());
+                } catch (GameException.NullCardException e) {
+                    System.err.println("Carta nula encontrada al jugar: " + e.getMessage());
+                } catch (GameException.OutOfCardsInDeck e) {
+                    System.err.println("No hay más cartas en el mazo para robar.");
+                } catch (GameException.EmptyTableException | GameException.IllegalCardColor e) {
+                    System.err.println("La mesa está vacía cuando no debería estarlo.");
+                }
+
+                controller.refreshGameView();
+            }
+        }
+    }
+
+    /**
+     * Lets the strategy think ahead while the human is to move, one slice at a time, idling
+     * after each slice so the thread stays within the policy's CPU share. Each slice ends at its
+     * deadline and the turn is checked before the next one, so the thread returns at most one
+     * slice after the machine gets the turn, or when the strategy has nothing left to ponder.
+     *
+     * @param turnSignal the controller's turn signal
+     * @param policy     the session's pondering policy
+     * @throws InterruptedException if the thread is interrupted while idling
+     */
+    private void ponder(TurnSignal turnSignal, PonderPolicy policy) throws InterruptedException {
+        int processors = Runtime.getRuntime().availableProcessors();
+        while (running && turnSignal.isHumanTurn()) {
+            long start = System.nanoTime();
+            boolean more;
+            try {
+                more = strategy.ponder(view(), start + TimeUnit.MILLISECONDS.toNanos(PonderPolicy.SLICE_MILLIS));
+            } catch (GameException.EmptyTableException | GameException.InvalidCardIndex e) {
+                return;
+            }
+            if (!more) {
+                return;
+            }
+            long idle = policy.idleNanos(System.nanoTime() - start, processors);
+            if (idle > 0 && turnSignal.awaitMachineTurn(idle)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Asks the strategy for a move, letting it think until the think window closes, then waits
+     * out whatever is left of the window. The window opens when the turn is handed to the
+     * machine, so time spent finishing a ponder slice counts towards it.
+     *
+     * @param turnSignal  the controller's turn signal
+     * @param thinkMillis length of the think window, in milliseconds
+     * @return the index of the card to play, or {@code -1} to draw
+     * @throws InterruptedException if the thread is interrupted while waiting
+     * @throws GameException.InvalidCardIndex if an index access is invalid
+     * @throws GameException.EmptyTableException if the table is unexpectedly empty
+     */
+    private int think(TurnSignal turnSignal, long thinkMillis) throws InterruptedException,
+            GameException.InvalidCardIndex, GameException.EmptyTableException {
+        long deadline = turnSignal.getMachineTurnStart() + TimeUnit.MILLISECONDS.toNanos(thinkMillis);
+        int index = strategy.chooseMove(view(), deadline);
+        long left = deadline - System.nanoTime();
+        if (left > 0) {
+            TimeUnit.NANOSECONDS.sleep(left);
+        }
+        return index;
+    }
+
+    /**
+     * Plays the card chosen by the machine's {@link IMachineStrategy}.
+     * If none can be played, draws exactly one card (reloading the deck from discards if needed).
+     *
+     * <p>On a successful play, updates the table image and triggers a card animation.
+     * Also handles special card effects via the controller.</p>
+     *
+     * @param index the index of the card chosen by the strategy, or {@code -1} to draw
+     * @throws GameException.InvalidCardIndex if an index access is invalid
+     * @throws GameException.NullCardException if a null card is unexpectedly encountered
+     * @throws GameException.OutOfCardsInDeck if the deck is empty and cannot be reloaded
+     * @throws GameException.EmptyTableException if the table is unexpectedly empty
+     * @throws GameException.IllegalCardColor if applying a color is illegal
+     */
+    private void putCardOnTheTable(int index) throws GameException.InvalidCardIndex, GameException.NullCardException,
+            GameException.OutOfCardsInDeck, GameException.EmptyTableException, GameException.IllegalCardColor {
+
+        boolean cardPlayed = false;
+
+        if (index >= 0) {
+            Card card = machinePlayer.getCard(index);  // may throw InvalidCardIndex
+
+            table.addCardOnTheTable(card);
+            Platform.runLater(() -> {
+                tableImageView.setImage(CardView.image(card));
+                animations.cardAnimation(tableImageView);
+            });
+            machinePlayer.removeCard(index);
+            cardPlayed = true;
+
+            // Notificar a los observadores que la máquina jugó una carta
+            observable.notification("MACHINE_PLAYED_CARD");
+
+            if (controller.getRulesEngine().effectOf(card.getCode()).isSpecial()) {
+                controller.specialCard(card, machinePlayer, controller.getHumanPlayer());
+            } else {
+                controller.setHumanTurn(true);
+            }
+        }
+
+        // If no card could be played, draw one
+        if (!cardPlayed) {
+            machinePlayer.addCode(deck.takeCodeRecycling(table));
+
+            // Keep message as-is (Spanish by design)
+            System.out.println("La maquina comio");
+            controller.setHumanTurn(true);
+        }
+    }
+
+    /**
+     * Chooses the color the machine declares after playing a wild, as decided by its strategy.
+     *
+     * @return one of "RED", "YELLOW", "GREEN", or "BLUE"
+     * @throws GameException.EmptyTableException if the table is unexpectedly empty
+     * @throws GameException.InvalidCardIndex if the machine's hand cannot be read
+     */
+    public String chooseColor() throws GameException.EmptyTableException, GameException.InvalidCardIndex {
+        return CardIds.COLORS[strategy.chooseColor(view())];
+    }
+
+    /**
+     * Takes a snapshot of what the machine can see. The hands and the deck are read under the
+     * table's lock, which the controller holds while dealing cards (e.g., a +2/+4 penalty on the
+     * JavaFX thread during the human's turn), and the machine's hand is copied, so the strategy
+     * never sees a draw halfway through. Hand indices are those of the machine's hand at the
+     * time of the snapshot.
+     *
+     * @return what the machine can see right now
+     * @throws GameException.EmptyTableException if the table is unexpectedly empty
+     * @throws GameException.InvalidCardIndex if the hand cannot be copied
+     */
+    private MachineView view() throws GameException.EmptyTableException, GameException.InvalidCardIndex {
+        synchronized (table) {
+            Player hand = new Player(machinePlayer.getTypePlayer());
+            for (int i = 0; i < machinePlayer.getHandSize(); i++) {
+                hand.addCode(machinePlayer.getCode(i));
+            }
+            return new MachineView(hand, table.getTopCode(), table.getTopColor(),
+                    controller.getHumanPlayer().getHandSize(), table.getPlayedColorCounts(),
+                    table.getCardMask(), deck.size(), controller.getRulesEngine(), controller.getOpponentModel());
+        }
+    }
+
+    /**
+     * @return the policy deciding the machine's moves, colors and UNO reactions
+     */
+    public IMachineStrategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Replaces the machine's policy, e.g., to compare strategies in the same build.
+     *
+     * @param strategy the new policy
+     */
+    public void setStrategy(IMachineStrategy strategy) {
+        this.strategy = strategy;
+    }
+
+    /**
+     * Starts or stops the main loop of this thread. When stopping, a thread parked
+     * on the turn signal is woken up so it can exit.
+     *
+     * @param running {@code true} to continue running; {@code false} to request stop
+     */
+    public void setRunning(boolean running) {
+        this.running = running;
+        if (!running && controller != null) {
+            controller.getTurnSignal().wakeUp();
+        }
+    }
+    
+    /**
+     * Agrega un observador para ser notificado cuando la máquina juega una carta.
+     *
+     * @param observer el observador a agregar
+     */
+    public void addObserver(org.example.unogame.model.machine.observers.observer observer) {
+        observable.addObserver(observer);
+    }
+    
+    /**
+     * Elimina un observador de la lista de observadores.
+     *
+     * @param observer el observador a eliminar
+     */
+    public void removeObserver(org.example.unogame.model.machine.observers.observer observer) {
+        observable.deleteObserver(observer);
+    }
+}
@@ -0,0 +1,335 @@
+package org.example.unogame.model.machine;
+
+import java.io.Serializable;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+
+import org.example.unogame.controller.GameUnoController;
+import org.example.unogame.model.exception.GameException;
+import org.example.unogame.model.machine.observers.observer;
+import org.example.unogame.model.player.Player;
+
+import javafx.application.Platform;
+
+/**
+ * Reactive monitor that simulates the machine's behavior for calling "UNO".
+ *
+ * <p>The monitor listens for the {@code "ONE_CARD_LEFT"} transition of both players. The
+ * moment a hand drops to one card an UNO window opens, and the machine's reaction is
+ * scheduled as a deadline on a shared timer:</p>
+ * <ul>
+ *   <li>Human at one card: if the human has not called "UNO" before the deadline, the
+ *       machine calls it against the human and the human is penalized.</li>
+ *   <li>Machine at one card: if the human has not called "UNO" against the machine before
+ *       the deadline, the machine calls "UNO" for itself and the window closes.</li>
+ * </ul>
+ *
+ * <h2>Threading</h2>
+ * <ul>
+ *   <li>No thread of its own: transitions are handled on whichever thread changed the hand,
+ *       and deadlines run on the shared timer of the match's {@link GameRuntime}, paced by
+ *       the session's {@link PacingProfile}.</li>
+ *   <li>Window state is guarded by this instance's monitor, so a deadline and a human
+ *       "UNO" call racing each other resolve to exactly one outcome.</li>
+ *   <li>External code can stop the monitor by calling {@link #setRunning(boolean)}, which
+ *       also cancels pending deadlines.</li>
+ *   <li>UI updates are delegated to the controller on the JavaFX thread.</li>
+ * </ul>
+ */
+public class ThreadSingUNOMachine implements observer, Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /** Human player reference. */
+    private Player humanPlayer;
+
+    /** Machine player reference. */
+    private Player machinePlayer;
+
+    /** Whether the machine is allowed to call UNO for itself. */
+    private boolean machineCanSayOne = true;
+
+    /** Whether the machine is allowed to call UNO against the human. */
+    private boolean machineCanSayOneToPlayer = true;
+
+    /** Controller used to update UI state and flags. */
+    private transient GameUnoController gameUnoController;
+
+    /** Reference to the machine-turn thread, whose strategy places the reaction delays. */
+    private transient ThreadPlayMachine threadPlayMachine;
+
+    /** Match runtime: shared timer for the reaction deadlines and the session's pacing. */
+    private transient GameRuntime runtime;
+
+    /** Random stream for the reaction delays, split from the session generator. */
+    private transient RandomGenerator reactionRandom;
+
+    /** Pending deadline for the machine to call "UNO" against the human, if any. */
+    private transient ScheduledFuture<?> humanDeadline;
+
+    /** Pending deadline for the machine to call "UNO" for itself, if any. */
+    private transient ScheduledFuture<?> machineDeadline;
+
+    /** Observer registered on the human player for the one-card transition. */
+    private final transient observer humanHandObserver = event -> {
+        if ("ONE_CARD_LEFT".equals(event)) {
+            onHumanHasOneCard();
+        }
+    };
+
+    /** Observer registered on the machine player for the one-card transition. */
+    private final transient observer machineHandObserver = event -> {
+        if ("ONE_CARD_LEFT".equals(event)) {
+            onMachineHasOneCard();
+        }
+    };
+
+    /** Whether the monitor reacts to transitions; set to {@code false} to stop it. */
+    private volatile boolean running = true;
+
+    /**
+     * Creates a new UNO-calling monitor.
+     *
+     * @param humanPlayer        the human player
+     * @param machinePlayer      the machine player
+     * @param gameUnoController  controller used for UI updates and shared flags
+     * @param threadPlayMachine  the machine's play thread (required reference)
+     * @param runtime            match runtime whose timer and pacing drive the reaction deadlines
+     * @throws GameException.ThreadInitializationException if any argument is {@code null}
+     */
+    public ThreadSingUNOMachine(Player humanPlayer, Player machinePlayer, GameUnoController gameUnoController,
+                                ThreadPlayMachine threadPlayMachine, GameRuntime runtime)
+            throws GameException.ThreadInitializationException {
+        if (humanPlayer == null || machinePlayer == null || gameUnoController == null
+                || threadPlayMachine == null || runtime == null) {
+            // Keep original message (Spanish by design)
+            throw new GameException.ThreadInitializationException("UNO: Uno de los parámetros del constructor es null");
+        }
+
+        this.humanPlayer = humanPlayer;
+        this.machinePlayer = machinePlayer;
+        this.gameUnoController = gameUnoController;
+        this.threadPlayMachine = threadPlayMachine;
+        this.runtime = runtime;
+        this.reactionRandom = runtime.splitRandom();
+    }
+
+    /**
+     * Registers the monitor on both players so it is triggered by their one-card transitions.
+     */
+    public void attach() {
+        humanPlayer.addObserver(humanHandObserver);
+        machinePlayer.addObserver(machineHandObserver);
+    }
+
+    /**
+     * Handles the human's transition to one card by notifying {@code "HUMAN_HAS_ONE_CARD"}
+     * through the controller, so every game observer sees it.
+     */
+    private void onHumanHasOneCard() {
+        if (running && machineCanSayOneToPlayer) {
+            gameUnoController.notifyGameEvent("HUMAN_HAS_ONE_CARD");
+        }
+    }
+
+    /**
+     * Handles the machine's transition to one card by notifying {@code "MACHINE_HAS_ONE_CARD"}
+     * through the controller, so every game observer sees it.
+     */
+    private void onMachineHasOneCard() {
+        if (running && machineCanSayOne && gameUnoController.isHumanCanSayONEToMachine()) {
+            gameUnoController.notifyGameEvent("MACHINE_HAS_ONE_CARD");
+        }
+    }
+
+    /**
+     * Draws the machine's reaction time for the current UNO window, as placed by the
+     * machine's strategy.
+     *
+     * @param forItself {@code true} for the machine's own window, {@code false} for the human's
+     * @return a delay within the session's {@link PacingProfile} reaction range, in milliseconds
+     */
+    private long nextReactionDelay(boolean forItself) {
+        double reaction = threadPlayMachine.getStrategy().unoReaction(forItself, reactionRandom);
+        return runtime.getPacing().unoReactionMillis(reaction);
+    }
+
+    /**
+     * Shows the UNO countdown for the window, unless the session's pacing leaves no time for it.
+     *
+     * @param delay machine reaction time in milliseconds
+     */
+    private void showCountdown(long delay) {
+        int seconds = (int) (delay / 1000);
+        if (seconds > 0) {
+            Platform.runLater(() -> gameUnoController.showUNOTimer(seconds));
+        }
+    }
+
+    /**
+     * Deadline for the human's UNO window: if the human still has exactly one card and has
+     * not called "UNO", the machine calls it and the human is penalized.
+     */
+    private void humanDeadlineReached() {
+        if (!closeHumanWindow() || !running || humanPlayer.getHandSize() != 1) {
+            return; // window already closed by the human, or the hand changed meanwhile
+        }
+
+        Platform.runLater(gameUnoController::cancelUNOTimer);
+        gameUnoController.setTurnLabel("¡UNO! La máquina canta UNO");
+        gameUnoController.setPlayHuman(false);
+        try {
+            gameUnoController.penalizeHumanForNotCallingUNO();
+        } catch (Exception e) {
+            System.err.println("Error al aplicar penalización UNO: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Deadline for the machine's UNO window: if the human has not called "UNO" against the
+     * machine, the machine calls it for itself and the window closes.
+     */
+    private void machineDeadlineReached() {
+        if (!closeMachineWindow() || !running || machinePlayer.getHandSize() != 1) {
+            return; // window already closed by the human, or the hand changed meanwhile
+        }
+
+        gameUnoController.setMachineSayOne(true);
+        Platform.runLater(gameUnoController::cancelUNOTimer);
+        gameUnoController.setTurnLabel("¡UNO! La máquina canta UNO");
+    }
+
+    /**
+     * Opens the human's UNO window, replacing any pending deadline.
+     *
+     * @param delay machine reaction time in milliseconds
+     */
+    private synchronized void openHumanWindow(long delay) {
+        closeHumanWindow();
+        humanDeadline = runtime.getScheduler().schedule(this::humanDeadlineReached, delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Opens the machine's UNO window, replacing any pending deadline.
+     *
+     * @param delay machine reaction time in milliseconds
+     */
+    private synchronized void openMachineWindow(long delay) {
+        closeMachineWindow();
+        machineDeadline = runtime.getScheduler().schedule(this::machineDeadlineReached, delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Closes the human's UNO window and cancels its deadline.
+     *
+     * @return {@code true} if the window was open; {@code false} if it was already closed
+     */
+    private synchronized boolean closeHumanWindow() {
+        boolean open = humanDeadline != null;
+        if (open) {
+            humanDeadline.cancel(false);
+            humanDeadline = null;
+        }
+        return open;
+    }
+
+    /**
+     * Closes the machine's UNO window and cancels its deadline.
+     *
+     * @return {@code true} if the window was open; {@code false} if it was already closed
+     */
+    private synchronized boolean closeMachineWindow() {
+        boolean open = machineDeadline != null;
+        if (open) {
+            machineDeadline.cancel(false);
+            machineDeadline = null;
+        }
+        return open;
+    }
+
+    /**
+     * Enables or disables the machine's ability to call UNO for itself.
+     *
+     * @param machineCanSayOne {@code true} to allow; {@code false} to block
+     */
+    public void setMachineCanSayOne(boolean machineCanSayOne) {
+        this.machineCanSayOne = machineCanSayOne;
+    }
+
+    /**
+     * Enables or disables the machine's ability to call UNO against the human player.
+     *
+     * @param machineCanSayOneToPlayer {@code true} to allow; {@code false} to block
+     */
+    public void setMachineCanSayOneToPlayer(boolean machineCanSayOneToPlayer) {
+        this.machineCanSayOneToPlayer = machineCanSayOneToPlayer;
+    }
+
+    /**
+     * Starts or stops the monitor. When stopping, pending deadlines are cancelled and the
+     * monitor is unregistered from both players.
+     *
+     * @param running {@code true} to keep running; {@code false} to stop
+     */
+    public void setRunning(boolean running) {
+        this.running = running;
+        if (!running) {
+            closeHumanWindow();
+            closeMachineWindow();
+            humanPlayer.removeObserver(humanHandObserver);
+            machinePlayer.removeObserver(machineHandObserver);
+        }
+    }
+
+    /**
+     * Observer pattern implementation - reacts to game events.
+     *
+     * <p>Penalties are applied outside this monitor's lock, so a penalty draw that ends the
+     * game can stop this monitor from another thread without deadlocking.</p>
+     *
+     * @param event the game event that occurred
+     */
+    @Override
+    public void update(String event) {
+        switch (event) {
+            case "HUMAN_SAID_UNO":
+                // Human said UNO for themselves - close the window before the machine reacts
+                gameUnoController.setHumanCanSayONE(false);
+                closeHumanWindow();
+                break;
+
+            case "HUMAN_SAID_UNO_TO_MACHINE":
+                // Human said UNO against machine before the machine did - apply penalty
+                gameUnoController.setHumanCanSayONEToMachine(false);
+                if (closeMachineWindow()) {
+                    try {
+                        gameUnoController.penalizeMachineForNotCallingUNO();
+                    } catch (Exception e) {
+                        System.err.println("Error al aplicar penalización a la máquina: " + e.getMessage());
+                    }
+                }
+                break;
+
+            case "HUMAN_HAS_ONE_CARD":
+                // Open the human's UNO window; the machine reacts at the deadline
+                if (machineCanSayOneToPlayer) {
+                    long delay = nextReactionDelay(false);
+                    gameUnoController.setTurnLabel("¡Tienes 1 carta!");
+                    showCountdown(delay);
+                    openHumanWindow(delay);
+                }
+                break;
+
+            case "MACHINE_HAS_ONE_CARD":
+                // Open the window for the human to call UNO against the machine
+                if (machineCanSayOne && gameUnoController.isHumanCanSayONEToMachine()) {
+                    long delay = nextReactionDelay(true);
+                    gameUnoController.setMachineSayOne(false);
+                    gameUnoController.setTurnLabel("¡La máquina tiene 1 carta!");
+                    showCountdown(delay);
+                    openMachineWindow(delay);
+                }
+                break;
+        }
+    }
+}
@@ -1,12 +1,11 @@
 package org.example.unogame.model.machine;
 
 import java.io.Serializable;
-import java.util.ArrayList;
 
 import org.example.unogame.controller.GameUnoController;
-import org.example.unogame.model.card.Card;
 import org.example.unogame.model.deck.Deck;
 import org.example.unogame.model.exception.GameException;
+import org.example.unogame.model.machine.observers.observer;
 import org.example.unogame.model.player.Player;
 import org.example.unogame.view.Alert.AlertBox;
 import org.example.unogame.view.GameUnoStage;
@@ -14,9 +13,10 @@ import org.example.unogame.view.GameUnoStage;
 import javafx.application.Platform;
 
 /**
- * Background worker that detects end-of-game conditions and announces the winner.
+ * Event-driven watcher that detects end-of-game conditions and announces the winner.
  *
- * <p>This runnable periodically checks the players' hand sizes and the deck state to determine:
+ * <p>This observer is registered on both players and on the deck, and re-evaluates the
+ * end-of-game conditions each time one of them reports a change:
  * <ul>
  *   <li>If the human has 0 cards (human wins).</li>
  *   <li>If the machine has 0 cards (machine wins).</li>
@@ -26,11 +26,13 @@ import javafx.application.Platform;
  *
  * <h2>Threading</h2>
  * <ul>
- *   <li>Runs on a dedicated thread and sleeps briefly between checks.</li>
+ *   <li>No thread of its own: checks run on whichever thread changed the hand or drew the
+ *       last card, within the same event dispatch ({@code "HAND_SIZE_CHANGED"} / {@code "DECK_EMPTY"}).</li>
+ *   <li>The winner is announced at most once, even if several threads report changes concurrently.</li>
  *   <li>All UI interactions (closing the stage, showing alerts, changing labels) are executed on the JavaFX thread via {@link Platform#runLater(Runnable)}.</li>
  * </ul>
  */
-public class ThreadWinGame implements Runnable, Serializable {
+public class ThreadWinGame implements observer, Serializable {
     /** Controller used to update flags and UI labels. */
     private GameUnoController gameUnoController;
 
@@ -40,8 +42,8 @@ public class ThreadWinGame implements Runnable, Serializable {
     /** Human player reference. */
     private Player humanPlayer;
 
-    /** Main loop flag; set to {@code false} to stop this runnable. */
-    private boolean running = true;
+    /** Whether this watcher still reacts to events; cleared once the game has ended. */
+    private volatile boolean running = true;
 
     /** Shared deck reference to check depletion and compute scoring fallback. */
     private Deck deckOfCards;
@@ -50,7 +52,8 @@ public class ThreadWinGame implements Runnable, Serializable {
     private AlertBox alertBox = new AlertBox();
 
     /**
-     * Creates a new end-of-game watcher.
+     * Creates a new end-of-game watcher. Call {@link #attach()} once the opening hands
+     * have been dealt to start receiving events.
      *
      * @param humanPlayer       the human player
      * @param machinePlayer     the machine player
@@ -72,18 +75,30 @@ public class ThreadWinGame implements Runnable, Serializable {
     }
 
     /**
-     * Main loop that periodically verifies end-of-game conditions.
-     * Sleeps for a short, randomized interval before each verification.
+     * Registers this watcher on both players and the deck, then evaluates the current
+     * state once so a game loaded in a finished state is closed immediately.
+     */
+    public void attach() {
+        humanPlayer.addObserver(this);
+        machinePlayer.addObserver(this);
+        deckOfCards.addObserver(this);
+        verifiedGame();
+    }
+
+    /**
+     * Reacts to hand-size and deck-depletion events by re-evaluating the end-of-game conditions.
+     *
+     * @param event the event fired by a player or the deck
      */
     @Override
-    public void run() {
-        while (running) {
-            try {
-                Thread.sleep((long) (Math.random() * 1000));
-            } catch (InterruptedException e) {
-                e.printStackTrace(); // In production, prefer a logger.
-            }
-            verifiedGame();
+    public void update(String event) {
+        switch (event) {
+            case "HAND_SIZE_CHANGED":
+            case "DECK_EMPTY":
+                verifiedGame();
+                break;
+            default:
+                break;
         }
     }
 
@@ -97,14 +112,17 @@ public class ThreadWinGame implements Runnable, Serializable {
      *
      * <p>All labels/alerts keep their original Spanish strings by design.</p>
      */
-    private void verifiedGame() {
-        int numsCardsMachine = machinePlayer.getCardsPlayer().size();
-        int numsCardsHuman = humanPlayer.getCardsPlayer().size();
+    private synchronized void verifiedGame() {
+        if (!running) {
+            return;
+        }
+        int numsCardsMachine = machinePlayer.getHandSize();
+        int numsCardsHuman = humanPlayer.getHandSize();
 
         if (numsCardsHuman == 0) {
             gameUnoController.setRunningOneThread(false);
             gameUnoController.setRunningPlayMachineThread(false);
-            stopThread();
+            detach();
 
             Platform.runLater(() -> {
                 GameUnoStage.deleteInstance();
@@ -114,7 +132,7 @@ public class ThreadWinGame implements Runnable, Serializable {
         } else if (numsCardsMachine == 0) {
             gameUnoController.setRunningOneThread(false);
             gameUnoController.setRunningPlayMachineThread(false);
-            stopThread();
+            detach();
 
             Platform.runLater(() -> {
                 GameUnoStage.deleteInstance();
@@ -124,7 +142,7 @@ public class ThreadWinGame implements Runnable, Serializable {
         } else if (deckOfCards.isEmpty()) {
             gameUnoController.setRunningOneThread(false);
             gameUnoController.setRunningPlayMachineThread(false);
-            stopThread();
+            detach();
 
             try {
                 // Keep message in Spanish by design
@@ -133,8 +151,10 @@ public class ThreadWinGame implements Runnable, Serializable {
                 e.printStackTrace();
             }
 
-            int pointsMachine = calculateCardValuesWhenDeckEmpty(machinePlayer.getCardsPlayer());
-            int pointsHuman = calculateCardValuesWhenDeckEmpty(humanPlayer.getCardsPlayer());
+            // Numeric cards count as their face value; SKIP/RESERVE/+2 are worth 20 points;
+            // WILD/+4 are worth 50 points. Each hand keeps its running total.
+            int pointsMachine = machinePlayer.getPoints();
+            int pointsHuman = humanPlayer.getPoints();
 
             Platform.runLater(() -> {
                 GameUnoStage.deleteInstance();
@@ -153,54 +173,6 @@ public class ThreadWinGame implements Runnable, Serializable {
         }
     }
 
-    /**
-     * Sums the point value of a list of cards for the score-based ending.
-     *
-     * <p>Numeric cards count as their face value; SKIP/RESERVE/+2 are worth 20 points;
-     * WILD/+4 are worth 50 points.</p>
-     *
-     * @param cards the hand to evaluate
-     * @return the total point value
-     */
-    private int calculateCardValuesWhenDeckEmpty(ArrayList<Card> cards) {
-        int total = 0;
-        for (Card card : cards) {
-            try {
-                int value = convertCardValueToInt(card.getValue());
-                total += value;
-            } catch (GameException.IllegalCardValue e) {
-                e.printStackTrace(); // In production, prefer a logger and continue.
-            }
-        }
-        return total;
-    }
-
-    /**
-     * Converts a card value string to its scoring integer.
-     *
-     * @param value the card value (e.g., "7", "SKIP", "+4", "WILD")
-     * @return score points for the given value
-     * @throws GameException.IllegalCardValue if the value cannot be recognized
-     */
-    private int convertCardValueToInt(String value) throws GameException.IllegalCardValue {
-        try {
-            return Integer.parseInt(value);
-        } catch (NumberFormatException e) {
-            switch (value) {
-                case "SKIP":
-                case "RESERVE":
-                case "+2":
-                    return 20;
-                case "WILD":
-                case "+4":
-                    return 50;
-                default:
-                    // Keep message in Spanish by design
-                    throw new GameException.IllegalCardValue("Valor no reconocido: " + value);
-            }
-        }
-    }
-
     /**
      * Shows an informational alert dialog with the provided content.
      * (Strings are intentionally kept in Spanish.)
@@ -214,11 +186,13 @@ public class ThreadWinGame implements Runnable, Serializable {
     }
 
     /**
-     * Stops the main verification loop.
+     * Stops reacting to events and unregisters this watcher from the players and the deck.
      */
-    public void stopThread() {
+    public void detach() {
         running = false;
-        System.out.println("[ThreadWinGame] Hilo detenido.");
+        humanPlayer.removeObserver(this);
+        machinePlayer.removeObserver(this);
+        deckOfCards.removeObserver(this);
     }
 
-}
\ No newline at end of file
+}
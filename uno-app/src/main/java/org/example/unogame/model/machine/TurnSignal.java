@@ -0,0 +1,110 @@
+package org.example.unogame.model.machine;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Turn-change signal shared between the controller and the machine worker.
+ *
+ * <p>The controller flips the turn through {@link #setHumanTurn(boolean)}; the machine
+ * worker parks in {@link #awaitMachineTurn()} until the turn is handed over to it.
+ * While parked the worker sits in {@link Object#wait()} and consumes no CPU, instead of
+ * spinning on {@code isHumanTurn()}.</p>
+ *
+ * <h2>Thread-safety</h2>
+ * <p>All methods are synchronized on this instance; waiters are released with
+ * {@link Object#notifyAll()} whenever the turn passes to the machine or
+ * {@link #wakeUp()} is called.</p>
+ */
+public class TurnSignal {
+
+    /** Whether the human currently holds the turn. */
+    private boolean humanTurn;
+
+    /** {@link System#nanoTime()} at which the machine last got the turn. */
+    private long machineTurnStart = System.nanoTime();
+
+    /** Incremented by {@link #wakeUp()} so parked waiters can tell they were released on purpose. */
+    private long wakeUps = 0;
+
+    /**
+     * Creates a signal with the given initial turn owner.
+     *
+     * @param humanTurn {@code true} if the human starts with the turn; {@code false} for the machine
+     */
+    public TurnSignal(boolean humanTurn) {
+        this.humanTurn = humanTurn;
+    }
+
+    /**
+     * Records the new turn owner and, when the turn passes to the machine,
+     * releases any worker parked in {@link #awaitMachineTurn()}.
+     *
+     * @param humanTurn {@code true} if it is the human's turn; {@code false} for the machine
+     */
+    public synchronized void setHumanTurn(boolean humanTurn) {
+        if (this.humanTurn && !humanTurn) {
+            machineTurnStart = System.nanoTime();
+        }
+        this.humanTurn = humanTurn;
+        if (!humanTurn) {
+            notifyAll();
+        }
+    }
+
+    /**
+     * @return {@link System#nanoTime()} at which the turn was last handed to the machine
+     */
+    public synchronized long getMachineTurnStart() {
+        return machineTurnStart;
+    }
+
+    /**
+     * @return {@code true} if it is currently the human's turn; {@code false} otherwise
+     */
+    public synchronized boolean isHumanTurn() {
+        return humanTurn;
+    }
+
+    /**
+     * Parks the calling thread until it is the machine's turn or {@link #wakeUp()} is called.
+     * Returns immediately if the machine already holds the turn.
+     *
+     * @throws InterruptedException if the waiting thread is interrupted
+     */
+    public synchronized void awaitMachineTurn() throws InterruptedException {
+        long seen = wakeUps;
+        while (humanTurn && seen == wakeUps) {
+            wait();
+        }
+    }
+
+    /**
+     * Parks like {@link #awaitMachineTurn()}, but for at most {@code timeoutNanos}.
+     *
+     * @param timeoutNanos longest wait, in nanoseconds
+     * @return {@code true} if the machine holds the turn or {@link #wakeUp()} was called;
+     *         {@code false} if the time ran out first
+     * @throws InterruptedException if the waiting thread is interrupted
+     */
+    public synchronized boolean awaitMachineTurn(long timeoutNanos) throws InterruptedException {
+        long seen = wakeUps;
+        long end = System.nanoTime() + timeoutNanos;
+        while (humanTurn && seen == wakeUps) {
+            long left = end - System.nanoTime();
+            if (left <= 0) {
+                return false;
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, left);
+        }
+        return true;
+    }
+
+    /**
+     * Releases every parked waiter without changing the turn owner
+     * (used when a worker is asked to stop).
+     */
+    public synchronized void wakeUp() {
+        wakeUps++;
+        notifyAll();
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.unogame.view;
+
+import javafx.scene.image.Image;
+import javafx.scene.shape.Rectangle;
+import org.example.unogame.model.card.Card;
+import org.example.unogame.model.card.CardCode;
+import org.example.unogame.model.unoenum.UnoEnum;
+
+/**
+ * Renders model {@link Card}s as JavaFX nodes.
+ *
+ * <p>The model module has no JavaFX dependency; this adapter maps each card to its face
+ * image from the {@link ImageRegistry} and to an on-screen {@link Rectangle}. There is one
+ * rectangle per card face (cards are a flyweight catalog, and a face is never shown twice
+ * at the same time), created on first use and reused between renders.</p>
+ *
+ * <h2>Threading</h2>
+ * <p>Rectangles are scene-graph nodes: {@link #rectangle(Card)} and {@link #back()} must be
+ * called on the JavaFX application thread. {@link #image(Card)} is safe from any thread.</p>
+ */
+public final class CardView {
+
+    /** On-screen card width. */
+    private static final double W = 90;
+
+    /** On-screen card height. */
+    private static final double H = 130;
+
+    /** Corner arc of the card rectangle. */
+    private static final double ARC = 10;
+
+    /** Rectangle of each card face, indexed by code. */
+    private static final Rectangle[] RECTANGLES = new Rectangle[CardCode.CODE_SPACE];
+
+    private CardView() {}
+
+    /**
+     * @param card the card to render
+     * @return the shared face image of the card
+     */
+    public static Image image(Card card) {
+        return ImageRegistry.image(card.getAsset());
+    }
+
+    /**
+     * Returns the rectangle representing a card on screen, filled with its face image and
+     * rounded corners for a card-like look.
+     *
+     * @param card the card to render
+     * @return the card's rectangle
+     */
+    public static Rectangle rectangle(Card card) {
+        Rectangle rectangle = RECTANGLES[card.getCode()];
+        if (rectangle == null) {
+            rectangle = createRectangle(card.getAsset());
+            RECTANGLES[card.getCode()] = rectangle;
+        }
+        return rectangle;
+    }
+
+    /**
+     * Returns a new back-face rectangle that represents a hidden Uno card, typically used for
+     * the machine player's hand. The back image is decoded once and shared.
+     *
+     * @return a {@link Rectangle} filled with the Uno back image
+     */
+    public static Rectangle back() {
+        return createRectangle(UnoEnum.CARD_UNO);
+    }
+
+    private static Rectangle createRectangle(UnoEnum asset) {
+        Rectangle rectangle = new Rectangle(W, H);
+        rectangle.setFill(ImageRegistry.pattern(asset));
+        rectangle.setArcWidth(ARC);
+        rectangle.setArcHeight(ARC);
+        return rectangle;
+    }
+}
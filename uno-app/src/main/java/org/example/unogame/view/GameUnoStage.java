@@ -46,6 +46,7 @@ public class GameUnoStage extends Stage {
         show(); // Displays the stage
 
         controller.setupAutoSaveOnClose(this);
+        controller.setupRuntimeTeardownOnClose(this);
     }
 
     /**
@@ -0,0 +1,67 @@
+package org.example.unogame.view;
+
+import javafx.scene.image.Image;
+import javafx.scene.paint.ImagePattern;
+import org.example.unogame.model.unoenum.UnoEnum;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide registry of decoded images, keyed by {@link UnoEnum}.
+ *
+ * <p>Each asset is decoded at most once per process, on first request; every later
+ * request returns the same {@link Image} (and the same {@link ImagePattern} for
+ * rectangle fills). Both types are immutable, so they can be shared by every card,
+ * stage and refresh.</p>
+ *
+ * <h2>Thread-safety</h2>
+ * <p>Backed by {@link ConcurrentHashMap}; safe to call from any thread.</p>
+ */
+public final class ImageRegistry {
+
+    /** Decoded images. */
+    private static final Map<UnoEnum, Image> IMAGES = new ConcurrentHashMap<>();
+
+    /** Fill patterns built from the decoded images. */
+    private static final Map<UnoEnum, ImagePattern> PATTERNS = new ConcurrentHashMap<>();
+
+    private ImageRegistry() {}
+
+    /**
+     * Returns the shared image of an asset, decoding it on first use.
+     *
+     * @param asset the image asset
+     * @return the decoded image
+     * @throws IllegalStateException if the asset is missing from the classpath
+     */
+    public static Image image(UnoEnum asset) {
+        return IMAGES.computeIfAbsent(asset, ImageRegistry::load);
+    }
+
+    /**
+     * Returns the shared fill pattern of an asset.
+     *
+     * @param asset the image asset
+     * @return an {@link ImagePattern} over the shared image
+     */
+    public static ImagePattern pattern(UnoEnum asset) {
+        return PATTERNS.computeIfAbsent(asset, key -> new ImagePattern(image(key)));
+    }
+
+    /**
+     * @return the number of assets decoded so far
+     */
+    public static int size() {
+        return IMAGES.size();
+    }
+
+    private static Image load(UnoEnum asset) {
+        var resource = ImageRegistry.class.getResource(asset.getFilePath());
+        if (resource == null) {
+            // Keep message in Spanish by design
+            throw new IllegalStateException("No se encontró la imagen: " + asset.getFilePath());
+        }
+        return new Image(resource.toString());
+    }
+}
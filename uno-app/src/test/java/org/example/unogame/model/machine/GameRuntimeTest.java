@@ -0,0 +1,76 @@
+package org.example.unogame.model.machine;
+
+import org.example.unogame.model.ai.Difficulty;
+import org.example.unogame.model.ai.MachineStrategyType;
+import org.example.unogame.model.deck.Deck;
+import org.example.unogame.model.exception.GameException;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameRuntimeTest {
+
+    @Test
+    void testShutdown_stopsWorkersAndDropsQueuedDeadlines() throws InterruptedException {
+        GameRuntime runtime = new GameRuntime();
+        CountDownLatch started = new CountDownLatch(1);
+        runtime.submit(() -> {
+            started.countDown();
+            try {
+                Thread.sleep(60_000);
+            } catch (InterruptedException e) {
+                // expected on shutdown
+            }
+        });
+        runtime.getScheduler().schedule(() -> { }, 1, TimeUnit.HOURS);
+
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+        assertEquals(1, runtime.getQueuedTaskCount());
+
+        runtime.shutdown();
+
+        assertTrue(runtime.isShutdown());
+        assertEquals(0, runtime.getLiveThreadCount());
+        assertEquals(0, runtime.getQueuedTaskCount());
+    }
+
+    @Test
+    void testRepeatedMatches_keepThreadCountBounded() throws Exception {
+        GameRuntime runtime = new GameRuntime();
+        for (int match = 0; match < 20; match++) {
+            CountDownLatch started = new CountDownLatch(1);
+            var worker = runtime.submit(() -> {
+                started.countDown();
+                try {
+                    Thread.sleep(60_000);
+                } catch (InterruptedException e) {
+                    // stopped by the next match
+                }
+            });
+            assertTrue(started.await(1, TimeUnit.SECONDS));
+            worker.cancel(true);
+            assertTrue(runtime.getLiveThreadCount() <= GameRuntime.WORKER_THREADS);
+        }
+        runtime.shutdown();
+        assertEquals(0, runtime.getLiveThreadCount());
+    }
+
+    @Test
+    void testSplitRandom_sameSeedReplaysTheSameDeal() throws GameException {
+        GameRuntime first = new GameRuntime(PacingProfile.TURBO, Difficulty.NORMAL, MachineStrategyType.FIRST_LEGAL, 42);
+        GameRuntime second = new GameRuntime(PacingProfile.TURBO, Difficulty.NORMAL, MachineStrategyType.FIRST_LEGAL, 42);
+
+        Deck firstDeck = new Deck(first.splitRandom());
+        Deck secondDeck = new Deck(second.splitRandom());
+        while (!firstDeck.isEmpty()) {
+            assertEquals(firstDeck.takeCode(), secondDeck.takeCode());
+        }
+        assertEquals(first.splitRandom().nextLong(), second.splitRandom().nextLong());
+
+        first.shutdown();
+        second.shutdown();
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.unogame.model.machine;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class PonderPolicyTest {
+
+    @Test
+    void testIdleNanos_keepsOneThreadWithinItsShareOfTheCores() {
+        PonderPolicy policy = PonderPolicy.withShare(0.25);
+        // Two cores: a quarter of them is half of one core, so idle as long as it worked
+        assertEquals(50_000_000L, policy.idleNanos(50_000_000L, 2));
+        // Eight cores: a quarter of them is two cores, more than the single pondering thread
+        assertEquals(0L, policy.idleNanos(50_000_000L, 8));
+        assertFalse(PonderPolicy.OFF.isEnabled());
+    }
+}
@@ -0,0 +1,40 @@
+package org.example.unogame.model.machine;
+
+import org.example.unogame.controller.GameUnoController;
+import org.example.unogame.model.player.Player;
+import org.example.unogame.model.table.Table;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ThreadPlayMachineTest {
+
+    @Test
+    void testRun_parksWithoutCpuWhileItIsTheHumanTurn() throws InterruptedException {
+        GameUnoController controller = new GameUnoController();
+        controller.getTurnSignal().setHumanTurn(true);
+        ThreadPlayMachine machine = new ThreadPlayMachine(new Table(), new Player("MACHINE_PLAYER"), null, controller, null);
+        Thread worker = new Thread(machine, "ThreadPlayMachine");
+        worker.setDaemon(true);
+        worker.start();
+
+        long deadline = System.currentTimeMillis() + 2000;
+        while (worker.getState() != Thread.State.WAITING && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(Thread.State.WAITING, worker.getState());
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        long cpuBefore = threads.getThreadCpuTime(worker.getId());
+        Thread.sleep(500);
+        long cpuUsed = threads.getThreadCpuTime(worker.getId()) - cpuBefore;
+        assertTrue(cpuUsed < 10_000_000L, "Idle machine worker used " + cpuUsed + " ns of CPU");
+
+        machine.setRunning(false);
+        worker.join(1000);
+        assertFalse(worker.isAlive());
+    }
+}
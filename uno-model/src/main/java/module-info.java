@@ -0,0 +1,14 @@
+module org.example.unogame.model {
+    exports org.example.unogame.model.ai;
+    exports org.example.unogame.model.card;
+    exports org.example.unogame.model.deck;
+    exports org.example.unogame.model.exception;
+    exports org.example.unogame.model.fileHanldlers;
+    exports org.example.unogame.model.game;
+    exports org.example.unogame.model.machine.observers;
+    exports org.example.unogame.model.player;
+    exports org.example.unogame.model.rules;
+    exports org.example.unogame.model.sim;
+    exports org.example.unogame.model.table;
+    exports org.example.unogame.model.unoenum;
+}
@@ -0,0 +1,113 @@
+package org.example.unogame.model.ai;
+
+import org.example.unogame.model.card.CardIds;
+import org.example.unogame.model.player.HandMask;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Picks the color the machine declares after playing a WILD or +4.
+ *
+ * <p>The choice reads the running color counts of the machine's {@link HandMask} and the
+ * colors already played on the table, so it takes constant time whatever the hand size.
+ * How much it looks at depends on the {@link Difficulty}:</p>
+ * <ul>
+ *   <li>{@link Difficulty#EASY}: any playable color, uniformly.</li>
+ *   <li>{@link Difficulty#NORMAL}: the color with the most cards in hand.</li>
+ *   <li>{@link Difficulty#HARD}: the color with the most cards in hand; among those, the one
+ *       played most so far.</li>
+ * </ul>
+ * <p>Remaining ties, and a hand with no colored card, are settled at random.</p>
+ *
+ * <h2>Thread-safety</h2>
+ * <p>Not thread-safe: the generator is owned by a single player.</p>
+ */
+public class ColorChooser {
+
+    /** How much of the game state the choice looks at. */
+    private final Difficulty difficulty;
+
+    /** Generator used for random picks and ties. */
+    private final RandomGenerator random;
+
+    /**
+     * Creates a chooser.
+     *
+     * @param difficulty how much of the game state the choice looks at
+     * @param random     generator used for random picks and ties
+     */
+    public ColorChooser(Difficulty difficulty, RandomGenerator random) {
+        this.difficulty = difficulty;
+        this.random = random;
+    }
+
+    /**
+     * Chooses a color to declare.
+     *
+     * @param hand   the machine's hand
+     * @param played number of cards of each color played on the table, indexed by color index
+     * @return the color index of the chosen color (never {@code BLACK})
+     */
+    public int choose(HandMask hand, int[] played) {
+        return choose(hand, null, 0, played);
+    }
+
+    /**
+     * Chooses a color to declare from raw color counts, e.g., those of a simulated hand.
+     *
+     * @param handColors array holding the number of cards of each color in the hand
+     * @param offset     position of the hand's first color count in {@code handColors}
+     * @param played     number of cards of each color played on the table, indexed by color index
+     * @return the color index of the chosen color (never {@code BLACK})
+     */
+    public int choose(int[] handColors, int offset, int[] played) {
+        return choose(null, handColors, offset, played);
+    }
+
+    /**
+     * Reads the hand's color counts from {@code hand}, or from {@code handColors} when
+     * {@code hand} is {@code null}.
+     */
+    private int choose(HandMask hand, int[] handColors, int offset, int[] played) {
+        if (difficulty == Difficulty.EASY) {
+            return random.nextInt(CardIds.PLAYABLE_COLORS);
+        }
+        int best = -1;
+        long bestScore = -1;
+        int ties = 0;
+        for (int color = 0; color < CardIds.PLAYABLE_COLORS; color++) {
+            int held = hand != null ? hand.colorCount(color) : handColors[offset + color];
+            long score = (long) held << 32;
+            if (difficulty == Difficulty.HARD) {
+                score |= played[color];
+            }
+            if (score > bestScore) {
+                best = color;
+                bestScore = score;
+                ties = 1;
+            } else if (score == bestScore && random.nextInt(++ties) == 0) {
+                // Reservoir pick: every tied color ends up equally likely
+                best = color;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Chooses a color to declare.
+     *
+     * @param hand   the machine's hand
+     * @param played number of cards of each color played on the table, indexed by color index
+     * @return the name of the chosen color (e.g., "RED")
+     */
+    public String chooseName(HandMask hand, int[] played) {
+        return CardIds.COLORS[choose(hand, played)];
+    }
+
+    /**
+     * @return the difficulty this chooser plays at
+     */
+    public Difficulty getDifficulty() {
+        return difficulty;
+    }
+}
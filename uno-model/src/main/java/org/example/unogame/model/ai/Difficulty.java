@@ -0,0 +1,45 @@
+package org.example.unogame.model.ai;
+
+/**
+ * Strength of the machine player for a game session.
+ *
+ * <ul>
+ *   <li>{@link #EASY}: names colors at random.</li>
+ *   <li>{@link #NORMAL}: names the color it holds the most, the default.</li>
+ *   <li>{@link #HARD}: like {@link #NORMAL}, breaking ties toward the colors already played most,
+ *       which the opponent is less likely to hold.</li>
+ * </ul>
+ *
+ * <p>The difficulty only changes how wild colors are named; how far the machine looks ahead
+ * depends on its {@link MachineStrategyType}.</p>
+ *
+ * <p>The difficulty is chosen once per session through the {@value #PROPERTY} system property
+ * (e.g., {@code -Duno.difficulty=HARD}); see {@link #fromSystemProperty()}.</p>
+ */
+public enum Difficulty {
+    EASY,
+    NORMAL,
+    HARD;
+
+    /** System property used to select the difficulty for a session. */
+    public static final String PROPERTY = "uno.difficulty";
+
+    /**
+     * Resolves the difficulty selected through the {@value #PROPERTY} system property.
+     * Unknown or missing values fall back to {@link #NORMAL}.
+     *
+     * @return the session's difficulty
+     */
+    public static Difficulty fromSystemProperty() {
+        String name = System.getProperty(PROPERTY);
+        if (name == null || name.isBlank()) {
+            return NORMAL;
+        }
+        try {
+            return valueOf(name.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            System.err.println("[Difficulty] Dificultad desconocida: " + name + ", se usa NORMAL.");
+            return NORMAL;
+        }
+    }
+}
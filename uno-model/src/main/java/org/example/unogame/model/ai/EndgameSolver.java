@@ -0,0 +1,340 @@
+package org.example.unogame.model.ai;
+
+import org.example.unogame.model.card.CardCode;
+import org.example.unogame.model.card.CardIds;
+import org.example.unogame.model.player.HandMask;
+import org.example.unogame.model.sim.SimGame;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Solves the last turns of a game by expectimax once few cards are left in the hands.
+ *
+ * <p>For each of a few human hands sampled from the view's {@link OpponentModel}, the solver
+ * searches the full game tree: the machine maximizes its winning probability, the human
+ * minimizes it, and every draw is a chance node over the cards left in the deck, weighted by
+ * their copies. The values of each root move are averaged over the sampled hands and the best
+ * move is returned. Search deepens one ply at a time until every line reaches the end of the
+ * game (the result is then exact for the sampled hands) or the time budget runs out (the
+ * deepest completed search is used; unfinished lines are estimated from the hand sizes).</p>
+ *
+ * <h2>Transpositions</h2>
+ * <p>Positions are keyed by their Zobrist hash ({@link SimGame#hash()}) in a
+ * {@link TranspositionTable} of bounded size with least-recently-used eviction. The table is
+ * kept between decisions, so the next solve of the same endgame starts from the cached
+ * positions.</p>
+ *
+ * <h2>Configuration</h2>
+ * <p>The solver takes over when the two hands hold at most {@value #CARDS_PROPERTY} cards
+ * together (e.g., {@code -Duno.endgame.cards=6}), and stops after {@value #MILLIS_PROPERTY}
+ * milliseconds, or when the machine's think window closes if that is later; see
+ * {@link #fromSystemProperties()}.</p>
+ *
+ * <h2>Thread-safety</h2>
+ * <p>Not thread-safe; owned by one strategy.</p>
+ */
+public class EndgameSolver {
+
+    /** System property with the most cards in both hands for which the solver takes over. */
+    public static final String CARDS_PROPERTY = "uno.endgame.cards";
+
+    /** System property with the time limit per decision, in milliseconds. */
+    public static final String MILLIS_PROPERTY = "uno.endgame.millis";
+
+    /** Card threshold used when none is configured. */
+    public static final int DEFAULT_CARDS = 4;
+
+    /** Time limit used when none is configured, in milliseconds. */
+    public static final long DEFAULT_MILLIS = 100;
+
+    /** Positions kept in the transposition table. */
+    public static final int DEFAULT_ENTRIES = 1 << 16;
+
+    /** Human hands sampled per decision. */
+    private static final int SAMPLES = 8;
+
+    /** Deepest search, in plies. */
+    private static final int MAX_DEPTH = 64;
+
+    /** Every card id of the card universe, as a bitset. */
+    private static final long ALL_CARDS = (1L << CardIds.CARD_COUNT) - 1;
+
+    /** Most cards in both hands for which the solver takes over. */
+    private final int cardThreshold;
+
+    /** Time limit per decision, in milliseconds. */
+    private final long millis;
+
+    /** Solved positions. */
+    private final TranspositionTable table;
+
+    /** Game of each ply of the current line. */
+    private final SimGame[] stack = new SimGame[MAX_DEPTH + 1];
+
+    /** Legal moves of each ply of the current line. */
+    private final int[][] moves = new int[MAX_DEPTH + 1][SimGame.MOVE_COUNT];
+
+    /** Time at which the current solve stops. */
+    private long deadline;
+
+    /** Nodes visited by the current solve. */
+    private long nodes;
+
+    /** Set when the current solve ran out of time. */
+    private boolean timedOut;
+
+    /** Set when a line of the current subtree was cut before the end of the game. */
+    private boolean cutoff;
+
+    /** Depth of the last completed search. */
+    private int lastDepth;
+
+    /** Whether the last completed search reached the end of every line. */
+    private boolean lastExact;
+
+    /**
+     * Creates a solver.
+     *
+     * @param cardThreshold most cards in both hands for which the solver takes over
+     * @param millis        time limit per decision, in milliseconds
+     * @param entries       positions kept in the transposition table
+     */
+    public EndgameSolver(int cardThreshold, long millis, int entries) {
+        this.cardThreshold = cardThreshold;
+        this.millis = millis;
+        this.table = new TranspositionTable(entries);
+        // Draws are chosen by the solver, so the generator is never used
+        SplittableRandom unused = new SplittableRandom(0);
+        for (int i = 0; i < stack.length; i++) {
+            stack[i] = new SimGame(unused);
+        }
+    }
+
+    /**
+     * Resolves the solver configured through {@value #CARDS_PROPERTY} and
+     * {@value #MILLIS_PROPERTY}; missing or invalid values fall back to
+     * {@value #DEFAULT_CARDS} cards and {@value #DEFAULT_MILLIS} ms.
+     *
+     * @return the session's endgame solver
+     */
+    public static EndgameSolver fromSystemProperties() {
+        return new EndgameSolver((int) parse(CARDS_PROPERTY, DEFAULT_CARDS), parse(MILLIS_PROPERTY, DEFAULT_MILLIS),
+                DEFAULT_ENTRIES);
+    }
+
+    private static long parse(String property, long fallback) {
+        String value = System.getProperty(property);
+        if (value == null || value.isBlank()) {
+            return fallback;
+        }
+        try {
+            long parsed = Long.parseLong(value.trim());
+            if (parsed > 0) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // fall through to the warning
+        }
+        System.err.println("[EndgameSolver] Valor inválido para " + property + ": " + value);
+        return fallback;
+    }
+
+    /**
+     * @param view what the machine can see
+     * @return {@code true} if few enough cards are left in the hands for the solver to take over
+     */
+    public boolean applies(MachineView view) {
+        return view.getHand().getHandSize() + view.getOpponentHandSize() <= cardThreshold;
+    }
+
+    /**
+     * Chooses the machine's move.
+     *
+     * @param view   what the machine can see; the machine is to move
+     * @param random generator used to sample the human's hand
+     * @return the best move, encoded as in {@link SimGame}
+     */
+    public int solve(MachineView view, RandomGenerator random) {
+        return solve(view, random, System.nanoTime());
+    }
+
+    /**
+     * Chooses the machine's move, searching until the time limit or the think window ends,
+     * whichever is later.
+     *
+     * @param view      what the machine can see; the machine is to move
+     * @param random    generator used to sample the human's hand
+     * @param windowEnd {@link System#nanoTime()} at which the think window closes
+     * @return the best move, encoded as in {@link SimGame}
+     */
+    public int solve(MachineView view, RandomGenerator random, long windowEnd) {
+        return solveBy(view, random, Math.max(windowEnd, System.nanoTime() + millis * 1_000_000L));
+    }
+
+    /**
+     * Chooses the machine's move, searching until {@code deadline} regardless of the time limit,
+     * e.g., for a ponder slice that must end on time.
+     *
+     * @param view     what the machine can see; the machine is to move
+     * @param random   generator used to sample the human's hand
+     * @param deadline {@link System#nanoTime()} at which the search stops
+     * @return the best move, encoded as in {@link SimGame}
+     */
+    int solveBy(MachineView view, RandomGenerator random, long deadline) {
+        this.deadline = deadline;
+
+        HandMask hand = view.getHand().getHandMask();
+        long unseen = ALL_CARDS & ~hand.mask() & ~view.getTableMask();
+        SimGame base = new SimGame(random);
+        for (long bits = hand.mask(); bits != 0L; bits &= bits - 1) {
+            int id = Long.numberOfTrailingZeros(bits);
+            for (int copy = 0; copy < hand.count(id); copy++) {
+                base.addToHand(SimGame.MACHINE, id);
+            }
+        }
+        for (long bits = unseen; bits != 0L; bits &= bits - 1) {
+            base.addToDeck(Long.numberOfTrailingZeros(bits));
+        }
+        base.setTop(CardCode.toId(view.getTopCode()), view.getTopColor());
+        base.setToMove(SimGame.MACHINE);
+        base.setDeferDraws(true);
+
+        int[] rootMoves = new int[SimGame.MOVE_COUNT];
+        int count = base.legalMoves(rootMoves);
+        if (count == 1) {
+            return rootMoves[0];
+        }
+
+        // One determinization per sampled human hand; the deck keeps the rest of the unseen cards
+        OpponentModel.Sampler sampler = view.getOpponentModel().sampler(unseen);
+        int[] opponentHand = new int[Math.min(view.getOpponentHandSize(), sampler.size())];
+        SimGame[] worlds = new SimGame[SAMPLES];
+        for (int s = 0; s < SAMPLES; s++) {
+            worlds[s] = new SimGame(random);
+            worlds[s].copyFrom(base);
+            int dealt = sampler.sample(opponentHand.length, opponentHand, random);
+            for (int i = 0; i < dealt; i++) {
+                worlds[s].dealToHand(SimGame.HUMAN, opponentHand[i]);
+            }
+        }
+
+        int best = rootMoves[0];
+        nodes = 0;
+        timedOut = false;
+        lastDepth = 0;
+        lastExact = false;
+        for (int depth = 1; depth < MAX_DEPTH && !timedOut; depth++) {
+            cutoff = false;
+            double[] values = new double[count];
+            for (int s = 0; s < SAMPLES && !timedOut; s++) {
+                for (int i = 0; i < count && !timedOut; i++) {
+                    stack[0].copyFrom(worlds[s]);
+                    stack[0].apply(rootMoves[i]);
+                    values[i] += value(0, depth - 1);
+                }
+            }
+            if (timedOut) {
+                break;
+            }
+            int bestIndex = 0;
+            for (int i = 1; i < count; i++) {
+                if (values[i] > values[bestIndex]) {
+                    bestIndex = i;
+                }
+            }
+            best = rootMoves[bestIndex];
+            lastDepth = depth;
+            lastExact = !cutoff;
+            if (lastExact) {
+                break;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * @return the depth of the last completed search, in plies
+     */
+    public int getLastDepth() {
+        return lastDepth;
+    }
+
+    /**
+     * @return {@code true} if the last search reached the end of every line
+     */
+    public boolean isLastExact() {
+        return lastExact;
+    }
+
+    /**
+     * Machine's winning probability in {@code stack[ply]}, searching {@code depth} more plies.
+     */
+    private double value(int ply, int depth) {
+        SimGame game = stack[ply];
+        if (game.isOver()) {
+            return game.winner() == SimGame.MACHINE ? 1 : 0;
+        }
+        if ((++nodes & 1023) == 0 && System.nanoTime() > deadline) {
+            timedOut = true;
+        }
+        if (timedOut) {
+            return 0;
+        }
+        if (depth == 0 || ply + 1 == MAX_DEPTH) {
+            cutoff = true;
+            return estimate(game);
+        }
+
+        long hash = game.hash();
+        TranspositionTable.Entry entry = table.get(hash, depth);
+        if (entry != null) {
+            cutoff |= !entry.exact;
+            return entry.value;
+        }
+
+        boolean outerCutoff = cutoff;
+        cutoff = false;
+        SimGame child = stack[ply + 1];
+        double value;
+        if (game.pendingDraws() > 0) {
+            // Chance node: each card left in the deck, weighted by its copies
+            value = 0;
+            int deckSize = game.deckSize();
+            for (int id = 0; id < CardIds.CARD_COUNT; id++) {
+                int copies = game.deckCount(id);
+                if (copies > 0) {
+                    child.copyFrom(game);
+                    child.resolveDraw(id);
+                    value += copies * value(ply + 1, depth - 1) / deckSize;
+                }
+            }
+        } else {
+            int[] legal = moves[ply];
+            int count = game.legalMoves(legal);
+            boolean machine = game.toMove() == SimGame.MACHINE;
+            value = machine ? 0 : 1;
+            for (int i = 0; i < count; i++) {
+                child.copyFrom(game);
+                child.apply(legal[i]);
+                double v = value(ply + 1, depth - 1);
+                value = machine ? Math.max(value, v) : Math.min(value, v);
+            }
+        }
+        if (!timedOut) {
+            table.put(hash, value, depth, !cutoff);
+        }
+        cutoff |= outerCutoff;
+        return value;
+    }
+
+    /**
+     * Estimates an unfinished line: the fewer cards the machine holds relative to the human,
+     * the likelier it wins.
+     */
+    private static double estimate(SimGame game) {
+        int machine = game.handSize(SimGame.MACHINE);
+        int human = game.handSize(SimGame.HUMAN);
+        return (human + 1.0) / (machine + human + 2.0);
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.unogame.model.ai;
+
+import org.example.unogame.model.exception.GameException;
+
+/**
+ * The machine's original policy: plays the first legal card in hand order and leaves the
+ * color to a {@link ColorChooser}.
+ */
+public class FirstLegalStrategy implements IMachineStrategy {
+
+    /** Picks the color declared after a wild. */
+    private final ColorChooser colorChooser;
+
+    /**
+     * @param colorChooser picks the color declared after a wild
+     */
+    public FirstLegalStrategy(ColorChooser colorChooser) {
+        this.colorChooser = colorChooser;
+    }
+
+    @Override
+    public int chooseMove(MachineView view) throws GameException.InvalidCardIndex {
+        return view.getRules().firstLegalMove(view.getHand(), view.getTopCode(), view.getTopColor());
+    }
+
+    @Override
+    public int chooseColor(MachineView view) {
+        return colorChooser.choose(view.getHand().getHandMask(), view.getPlayedColors());
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.unogame.model.ai;
+
+import org.example.unogame.model.card.CardCode;
+import org.example.unogame.model.card.CardIds;
+import org.example.unogame.model.exception.GameException;
+import org.example.unogame.model.player.HandMask;
+import org.example.unogame.model.player.IPlayer;
+
+/**
+ * One-ply heuristic: sheds the most points first and keeps wild cards for when nothing else
+ * can be played.
+ *
+ * <p>Among the legal colored cards it plays the one worth the most points, breaking ties
+ * toward the color the machine holds most so its next turns stay playable. The choice is
+ * made on the hand's card-id bitset and running totals, not by scanning the hand.</p>
+ */
+public class GreedyStrategy implements IMachineStrategy {
+
+    /** Card-id bits of WILD and +4. */
+    private static final long WILD_MASK = (1L << CardIds.WILD_ID) | (1L << CardIds.DRAW_FOUR_ID);
+
+    /** Picks the color declared after a wild. */
+    private final ColorChooser colorChooser;
+
+    /**
+     * @param colorChooser picks the color declared after a wild
+     */
+    public GreedyStrategy(ColorChooser colorChooser) {
+        this.colorChooser = colorChooser;
+    }
+
+    @Override
+    public int chooseMove(MachineView view) throws GameException.InvalidCardIndex {
+        long legal = view.legalMask();
+        if (legal == 0L) {
+            return -1;
+        }
+        long colored = legal & ~WILD_MASK;
+        long candidates = colored != 0L ? colored : legal;
+
+        HandMask hand = view.getHand().getHandMask();
+        int bestId = -1;
+        int bestScore = -1;
+        for (long bits = candidates; bits != 0L; bits &= bits - 1) {
+            int id = Long.numberOfTrailingZeros(bits);
+            int score = CardIds.pointsOf(id) * 128 + hand.colorCount(CardIds.colorOf(id));
+            if (score > bestScore) {
+                bestId = id;
+                bestScore = score;
+            }
+        }
+        return indexOf(view.getHand(), bestId);
+    }
+
+    @Override
+    public int chooseColor(MachineView view) {
+        return colorChooser.choose(view.getHand().getHandMask(), view.getPlayedColors());
+    }
+
+    /**
+     * @return the position of the first card with the given id in the hand, or {@code -1}
+     */
+    private static int indexOf(IPlayer hand, int id) throws GameException.InvalidCardIndex {
+        for (int i = 0; i < hand.getHandSize(); i++) {
+            if (CardCode.toId(hand.getCode(i)) == id) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
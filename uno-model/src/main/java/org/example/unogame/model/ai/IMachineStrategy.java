@@ -0,0 +1,80 @@
+package org.example.unogame.model.ai;
+
+import org.example.unogame.model.exception.GameException;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Policy of the machine player: which card to play, which color to declare after a wild
+ * and how quickly to call "UNO".
+ *
+ * <p>The game's threads own the timing and the UI; a strategy only makes decisions from a
+ * {@link MachineView}. Strategies are created per session through {@link MachineStrategyType},
+ * so several of them can be run and benchmarked in the same build.</p>
+ *
+ * <h2>Anytime decisions</h2>
+ * <p>The machine waits a think window before each move (see the session's pacing). A search
+ * strategy overrides {@link #chooseMove(MachineView, long)} to keep improving its answer
+ * until the window closes, then commits its best move; the others answer at once and the
+ * caller waits out the window.</p>
+ *
+ * <h2>Pondering</h2>
+ * <p>A strategy may also think during the human's turn through {@link #ponder}, so that its
+ * next {@link #chooseMove(MachineView, long)} can answer at once.</p>
+ */
+public interface IMachineStrategy {
+
+    /**
+     * Chooses the card to play.
+     *
+     * @param view what the machine can see
+     * @return the index of a legal card in the machine's hand, or {@code -1} to draw
+     * @throws GameException.InvalidCardIndex if the hand changes while it is being read
+     */
+    int chooseMove(MachineView view) throws GameException.InvalidCardIndex;
+
+    /**
+     * Chooses the card to play, thinking at most until {@code deadlineNanos}.
+     *
+     * @param view          what the machine can see
+     * @param deadlineNanos {@link System#nanoTime()} at which the think window closes
+     * @return the index of a legal card in the machine's hand, or {@code -1} to draw
+     * @throws GameException.InvalidCardIndex if the hand changes while it is being read
+     */
+    default int chooseMove(MachineView view, long deadlineNanos) throws GameException.InvalidCardIndex {
+        return chooseMove(view);
+    }
+
+    /**
+     * Thinks ahead while the human is to move, on the calling thread only. Each call must
+     * return by {@code deadlineNanos}, so the caller can stop when the turn changes and
+     * throttle the work between calls.
+     *
+     * @param view          what the machine sees while the human is to move
+     * @param deadlineNanos {@link System#nanoTime()} at which this slice should end
+     * @return {@code true} if there is more to ponder from this position
+     */
+    default boolean ponder(MachineView view, long deadlineNanos) {
+        return false;
+    }
+
+    /**
+     * Chooses the color to declare after playing a WILD or +4.
+     *
+     * @param view what the machine can see
+     * @return a playable color index from {@link org.example.unogame.model.card.CardIds}
+     */
+    int chooseColor(MachineView view);
+
+    /**
+     * Places the machine's reaction inside the session's UNO reaction range.
+     *
+     * @param forItself {@code true} when calling "UNO" for its own last card,
+     *                  {@code false} when calling it against the opponent
+     * @param random    generator owned by the caller
+     * @return a value in {@code [0, 1)}: {@code 0} reacts as fast as the pacing allows
+     */
+    default double unoReaction(boolean forItself, RandomGenerator random) {
+        return random.nextDouble();
+    }
+}
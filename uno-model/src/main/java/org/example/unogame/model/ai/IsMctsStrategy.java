@@ -0,0 +1,584 @@
+package org.example.unogame.model.ai;
+
+import org.example.unogame.model.card.CardCode;
+import org.example.unogame.model.card.CardIds;
+import org.example.unogame.model.exception.GameException;
+import org.example.unogame.model.player.HandMask;
+import org.example.unogame.model.player.IPlayer;
+import org.example.unogame.model.rules.Playability;
+import org.example.unogame.model.sim.SimGame;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.random.RandomGenerator;
+
+/**
+ * Information-set Monte Carlo Tree Search (single-observer ISMCTS) for the machine player.
+ *
+ * <p>The machine does not know the human's hand nor the order of the deck. Each iteration
+ * samples a <em>determinization</em>: the cards it has not seen (neither in its hand nor on
+ * the table) are split into a human hand of the right size, drawn from the view's
+ * {@link OpponentModel}, and the deck. The
+ * iteration then descends one shared tree, restricted to the moves legal in that sample,
+ * choosing children by UCB with availability counts, expands one move, finishes the game
+ * with a random {@link SimGame#rollout() playout} and credits the winner along the path.
+ * Moves that play a wild card include the declared color, so the search also picks the
+ * color.</p>
+ *
+ * <h2>Parallelism</h2>
+ * <p>Root parallelization: one independent tree per worker, run on a {@link ForkJoinPool}
+ * (one worker per pool thread, plus one on the calling thread), and the root visit counts
+ * are summed. Each worker has its own generator, seeded from this strategy's generator, so
+ * a search limited by iterations is reproducible.</p>
+ *
+ * <h2>Budget</h2>
+ * <p>Each decision stops at the {@link SearchBudget} limit. Given a think window
+ * ({@link #chooseMove(MachineView, long)}), the search runs until the window closes instead,
+ * if that is later than the time limit; an iteration limit still applies. The last search's
+ * playouts and rate are kept in {@link #getLastPlayouts()} and {@link #getPlayoutsPerSecond()}.</p>
+ *
+ * <h2>Pondering</h2>
+ * <p>During the human's turn, {@link #ponder(MachineView, long)} searches, one per call, on the
+ * calling thread only and until the call's deadline, the positions the machine would face
+ * after each likely human move: the legal cards the {@link OpponentModel} rates most likely to be held, then drawing.
+ * The replies are cached by position; when the human's move lands on a cached position,
+ * {@link #chooseMove(MachineView, long)} answers from the cache without searching.</p>
+ *
+ * <h2>Endgame</h2>
+ * <p>With an {@link EndgameSolver}, positions with few cards left in the hands are solved by
+ * expectimax instead of sampled by playouts.</p>
+ */
+public class IsMctsStrategy implements IMachineStrategy {
+
+    /** UCB exploration constant. */
+    private static final double EXPLORATION = 0.7;
+
+    /** Every card id of the card universe, as a bitset. */
+    private static final long ALL_CARDS = (1L << CardIds.CARD_COUNT) - 1;
+
+    /** Most human moves pondered from one position. */
+    private static final int PONDER_MOVES = 8;
+
+    /** Replies kept in the ponder cache. */
+    private static final int PONDER_CACHE_SIZE = 64;
+
+    /** Limit of each decision. */
+    private final SearchBudget budget;
+
+    /** Pool running the workers. */
+    private final ForkJoinPool pool;
+
+    /** Picks the color when no search was needed to choose a wild. */
+    private final ColorChooser colorChooser;
+
+    /** Generator seeding the workers. */
+    private final RandomGenerator random;
+
+    /** Solver taking over near the end of the game, or {@code null} to always search. */
+    private final EndgameSolver endgame;
+
+    /** Color chosen by the last search together with a wild card, {@code -1} if none. */
+    private int searchedColor = -1;
+
+    /** Playouts run by the last search. */
+    private volatile long lastPlayouts;
+
+    /** Duration of the last search, in nanoseconds. */
+    private volatile long lastNanos;
+
+    /** Playouts run by the most recent call to {@link #search}, decision or ponder. */
+    private long searchPlayouts;
+
+    /** Replies found while pondering, by position key, least recently used first. */
+    private final Map<Long, Integer> ponderCache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Integer> eldest) {
+            return size() > PONDER_CACHE_SIZE;
+        }
+    };
+
+    /** Key of the position being pondered, while the human is to move. */
+    private long ponderRoot;
+
+    /** Human moves to ponder from {@link #ponderRoot}, most likely first. */
+    private final int[] ponderMoves = new int[PONDER_MOVES];
+
+    /** Number of entries of {@link #ponderMoves}. */
+    private int ponderCount;
+
+    /** Next entry of {@link #ponderMoves} to ponder. */
+    private int ponderNext;
+
+    /** Decisions answered from the ponder cache. */
+    private volatile long ponderHits;
+
+    /**
+     * Creates the strategy.
+     *
+     * @param budget       limit of each decision
+     * @param pool         pool running the workers
+     * @param colorChooser picks the color when no search was needed to choose a wild
+     * @param random       generator seeding the workers
+     */
+    public IsMctsStrategy(SearchBudget budget, ForkJoinPool pool, ColorChooser colorChooser, RandomGenerator random) {
+        this(budget, pool, colorChooser, random, null);
+    }
+
+    /**
+     * Creates the strategy with an endgame solver.
+     *
+     * @param budget       limit of each decision
+     * @param pool         pool running the workers
+     * @param colorChooser picks the color when no search was needed to choose a wild
+     * @param random       generator seeding the workers
+     * @param endgame      solver taking over near the end of the game, or {@code null} to always search
+     */
+    public IsMctsStrategy(SearchBudget budget, ForkJoinPool pool, ColorChooser colorChooser, RandomGenerator random,
+                          EndgameSolver endgame) {
+        this.budget = budget;
+        this.pool = pool;
+        this.colorChooser = colorChooser;
+        this.random = random;
+        this.endgame = endgame;
+    }
+
+    @Override
+    public int chooseMove(MachineView view) throws GameException.InvalidCardIndex {
+        return chooseMove(view, System.nanoTime());
+    }
+
+    @Override
+    public int chooseMove(MachineView view, long deadlineNanos) throws GameException.InvalidCardIndex {
+        searchedColor = -1;
+        long legal = view.legalMask();
+        if (legal == 0L) {
+            return -1;
+        }
+        int card;
+        if (!needsSearch(legal)) {
+            card = Long.numberOfTrailingZeros(legal);
+        } else {
+            Integer pondered = ponderCache.remove(positionKey(view));
+            int move;
+            if (pondered != null && (legal & (1L << SimGame.cardOf(pondered))) != 0L) {
+                // The human's move landed on a pondered position
+                ponderHits++;
+                move = pondered;
+            } else {
+                long start = System.nanoTime();
+                move = decide(view, deadlineNanos, false, pool.getParallelism() + 1);
+                lastNanos = Math.max(1, System.nanoTime() - start);
+                lastPlayouts = searchPlayouts;
+            }
+            card = SimGame.cardOf(move);
+            searchedColor = SimGame.colorOf(move);
+            if (card < 0) {
+                // The budget ran out before the first playout
+                card = Long.numberOfTrailingZeros(legal);
+            }
+        }
+        return indexOf(view.getHand(), card);
+    }
+
+    @Override
+    public int chooseColor(MachineView view) {
+        if (searchedColor >= 0) {
+            int color = searchedColor;
+            searchedColor = -1;
+            return color;
+        }
+        return colorChooser.choose(view.getHand().getHandMask(), view.getPlayedColors());
+    }
+
+    /**
+     * @return the playout rate of the last search, per second
+     */
+    public double getPlayoutsPerSecond() {
+        long nanos = lastNanos;
+        return nanos == 0 ? 0 : lastPlayouts * 1e9 / nanos;
+    }
+
+    /**
+     * @return the playouts run by the last search
+     */
+    public long getLastPlayouts() {
+        return lastPlayouts;
+    }
+
+    /**
+     * Ponders the next likely human move from the current position: searches the machine's
+     * reply to it and caches the result. Only the calling thread is used, and the search stops
+     * at {@code deadlineNanos} even if the budget's time limit is later.
+     *
+     * @param view          what the machine sees while the human is to move
+     * @param deadlineNanos {@link System#nanoTime()} at which this slice ends
+     * @return {@code true} if more human moves are left to ponder from this position
+     */
+    @Override
+    public boolean ponder(MachineView view, long deadlineNanos) {
+        long root = positionKey(view);
+        if (root != ponderRoot || ponderCount == 0) {
+            ponderRoot = root;
+            ponderCount = likelyHumanMoves(view);
+            ponderNext = 0;
+        }
+        if (ponderNext >= ponderCount) {
+            return false;
+        }
+        MachineView after = afterHumanMove(view, ponderMoves[ponderNext++]);
+        if (needsSearch(after.legalMask())) {
+            int reply = decide(after, deadlineNanos, true, 1);
+            if (SimGame.cardOf(reply) >= 0) {
+                // A slice that ended before the first playout leaves nothing worth keeping
+                ponderCache.put(positionKey(after), reply);
+            }
+        }
+        return ponderNext < ponderCount;
+    }
+
+    /**
+     * @param legal the machine's legal cards, as a bitset
+     * @return {@code false} when there is nothing to choose: no legal card, or a single colored one
+     */
+    private static boolean needsSearch(long legal) {
+        return legal != 0L && (Long.bitCount(legal) > 1 || Long.numberOfTrailingZeros(legal) >= CardIds.WILD_ID);
+    }
+
+    /**
+     * @return the decisions answered from the ponder cache
+     */
+    public long getPonderHits() {
+        return ponderHits;
+    }
+
+    /**
+     * Fills {@link #ponderMoves} with the human moves that hand the turn to the machine: the
+     * legal number cards and wilds the opponent model rates most likely to be held, then drawing.
+     *
+     * @return the number of moves written
+     */
+    private int likelyHumanMoves(MachineView view) {
+        if (view.getOpponentHandSize() <= 1) {
+            // The human's next card wins; only a draw leads to a position worth pondering
+            ponderMoves[0] = SimGame.DRAW;
+            return 1;
+        }
+        long unseen = ALL_CARDS & ~view.getHand().getHandMask().mask() & ~view.getTableMask();
+        int topId = CardCode.toId(view.getTopCode());
+        long candidates = unseen & Playability.legalMask(topId, view.getTopColor(), false);
+        OpponentModel model = view.getOpponentModel();
+        int count = 0;
+        while (count < PONDER_MOVES - 1) {
+            int bestId = -1;
+            for (long bits = candidates; bits != 0L; bits &= bits - 1) {
+                int id = Long.numberOfTrailingZeros(bits);
+                boolean passesTurn = CardIds.rankOf(id) <= CardIds.MAX_NUMBER_RANK || id == CardIds.WILD_ID;
+                if (passesTurn && (bestId < 0 || model.weight(id) > model.weight(bestId))) {
+                    bestId = id;
+                }
+            }
+            if (bestId < 0 || model.weight(bestId) == 0) {
+                break;
+            }
+            candidates &= ~(1L << bestId);
+            // A WILD is pondered with the color the human is most likely to declare: the one they hold most
+            ponderMoves[count++] = bestId == CardIds.WILD_ID ? SimGame.WILD_MOVE + likelyColor(model, unseen) : bestId;
+        }
+        ponderMoves[count++] = SimGame.DRAW;
+        return count;
+    }
+
+    /**
+     * @return the playable color whose unseen cards weigh most in the opponent model
+     */
+    private static int likelyColor(OpponentModel model, long unseen) {
+        int best = 0;
+        int bestWeight = -1;
+        for (int color = 0; color < CardIds.PLAYABLE_COLORS; color++) {
+            int weight = 0;
+            for (int rank = 0; rank < CardIds.COLORED_RANKS; rank++) {
+                int id = color * CardIds.COLORED_RANKS + rank;
+                if ((unseen & (1L << id)) != 0L) {
+                    weight += model.weight(id);
+                }
+            }
+            if (weight > bestWeight) {
+                best = color;
+                bestWeight = weight;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * @return what the machine would see after the human plays {@code move}
+     */
+    private static MachineView afterHumanMove(MachineView view, int move) {
+        if (move == SimGame.DRAW) {
+            return new MachineView(view.getHand(), view.getTopCode(), view.getTopColor(),
+                    view.getOpponentHandSize() + 1, view.getPlayedColors(), view.getTableMask(),
+                    Math.max(0, view.getDeckSize() - 1), view.getRules(), view.getOpponentModel());
+        }
+        int id = SimGame.cardOf(move);
+        int color = id >= CardIds.WILD_ID ? SimGame.colorOf(move) : CardIds.colorOf(id);
+        int[] played = view.getPlayedColors().clone();
+        if (id < CardIds.WILD_ID) {
+            played[color]++;
+        }
+        return new MachineView(view.getHand(), CardCode.fromId(id), color, view.getOpponentHandSize() - 1,
+                played, view.getTableMask() | (1L << id), view.getDeckSize(), view.getRules(),
+                view.getOpponentModel());
+    }
+
+    /**
+     * Key of a position as the machine sees it: its hand, the table, the top card and color,
+     * and the sizes of the human's hand and the deck.
+     */
+    private static long positionKey(MachineView view) {
+        long key = view.getHand().getHandMask().mask();
+        key = key * 0x9E3779B97F4A7C15L + view.getTableMask();
+        key = key * 0x9E3779B97F4A7C15L + view.getTopCode();
+        key = key * 0x9E3779B97F4A7C15L + view.getTopColor();
+        key = key * 0x9E3779B97F4A7C15L + view.getOpponentHandSize();
+        key = key * 0x9E3779B97F4A7C15L + view.getDeckSize();
+        return key ^ (key >>> 31);
+    }
+
+    /**
+     * Solves the position with the endgame solver if it applies, or searches it otherwise.
+     *
+     * @param windowEnd {@link System#nanoTime()} at which the think window or ponder slice closes
+     * @param hardStop  {@code true} to stop at {@code windowEnd} (a ponder slice); {@code false} to
+     *                  run until the solver's or the budget's time limit if that is later
+     * @param workers   search trees, the calling thread's included
+     */
+    private int decide(MachineView view, long windowEnd, boolean hardStop, int workers) {
+        if (endgame != null && endgame.applies(view)) {
+            searchPlayouts = 0;
+            return hardStop ? endgame.solveBy(view, random, windowEnd) : endgame.solve(view, random, windowEnd);
+        }
+        long deadline = windowEnd;
+        if (!hardStop) {
+            deadline = budget.getMillis() == SearchBudget.UNLIMITED
+                    ? Long.MAX_VALUE : Math.max(windowEnd, System.nanoTime() + budget.getMillis() * 1_000_000L);
+        }
+        return search(view, deadline, workers);
+    }
+
+    /**
+     * Runs the search on {@code workers} trees until {@code deadline} or the budget's iteration
+     * limit, and returns the most visited root move.
+     */
+    private int search(MachineView view, long deadline, int workers) {
+        long iterations = budget.getIterations() == SearchBudget.UNLIMITED
+                ? SearchBudget.UNLIMITED : (budget.getIterations() + workers - 1) / workers;
+
+        HandMask hand = view.getHand().getHandMask();
+        long unseen = ALL_CARDS & ~hand.mask() & ~view.getTableMask();
+        int topId = CardCode.toId(view.getTopCode());
+        OpponentModel model = view.getOpponentModel();
+
+        List<ForkJoinTask<long[]>> tasks = new ArrayList<>(workers - 1);
+        for (int i = 1; i < workers; i++) {
+            Worker worker = new Worker(hand, unseen, model.sampler(unseen), view.getOpponentHandSize(),
+                    topId, view.getTopColor(), deadline, iterations, new SplittableRandom(random.nextLong()));
+            tasks.add(pool.submit(worker::run));
+        }
+        long[] total = new Worker(hand, unseen, model.sampler(unseen), view.getOpponentHandSize(),
+                topId, view.getTopColor(), deadline, iterations, new SplittableRandom(random.nextLong())).run();
+        for (ForkJoinTask<long[]> task : tasks) {
+            long[] visits = task.join();
+            for (int m = 0; m < total.length; m++) {
+                total[m] += visits[m];
+            }
+        }
+
+        int best = SimGame.DRAW;
+        for (int m = 0; m < SimGame.MOVE_COUNT; m++) {
+            if (total[m] > total[best] || (total[best] == 0 && total[m] > 0)) {
+                best = m;
+            }
+        }
+
+        searchPlayouts = total[SimGame.MOVE_COUNT];
+        return best;
+    }
+
+    /**
+     * @return the position of the first card with the given id in the hand
+     */
+    private static int indexOf(IPlayer hand, int id) throws GameException.InvalidCardIndex {
+        for (int i = 0; i < hand.getHandSize(); i++) {
+            if (CardCode.toId(hand.getCode(i)) == id) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Node of a worker's tree: the move that leads to it and the statistics of that move.
+     */
+    private static final class Node {
+        final int move;
+        final int player;
+        final Node parent;
+        Node[] children;
+        int visits;
+        int wins;
+        int availability;
+
+        Node(int move, int player, Node parent) {
+            this.move = move;
+            this.player = player;
+            this.parent = parent;
+        }
+    }
+
+    /**
+     * One search tree, grown on one thread. Every iteration reuses the same {@link SimGame},
+     * so the playouts themselves do not allocate.
+     */
+    private static final class Worker {
+        private final SimGame base;
+        private final SimGame game;
+        private final OpponentModel.Sampler sampler;
+        private final int[] opponentHand;
+        private final long deadline;
+        private final long iterations;
+        private final RandomGenerator random;
+        private final int[] moves = new int[SimGame.MOVE_COUNT];
+
+        /**
+         * Builds the root game: the machine's hand, the top card and every unseen card in the
+         * deck. Each determinization then only moves the sampled human hand out of the deck.
+         */
+        Worker(HandMask hand, long unseen, OpponentModel.Sampler sampler, int opponentHandSize, int topId, int topColor,
+               long deadline, long iterations, RandomGenerator random) {
+            this.base = new SimGame(random);
+            for (long bits = hand.mask(); bits != 0L; bits &= bits - 1) {
+                int id = Long.numberOfTrailingZeros(bits);
+                for (int copy = 0; copy < hand.count(id); copy++) {
+                    base.addToHand(SimGame.MACHINE, id);
+                }
+            }
+            for (long bits = unseen; bits != 0L; bits &= bits - 1) {
+                base.addToDeck(Long.numberOfTrailingZeros(bits));
+            }
+            base.setTop(topId, topColor);
+            base.setToMove(SimGame.MACHINE);
+            this.game = new SimGame(random);
+            this.sampler = sampler;
+            this.opponentHand = new int[Math.min(opponentHandSize, sampler.size())];
+            this.deadline = deadline;
+            this.iterations = iterations;
+            this.random = random;
+        }
+
+        /**
+         * @return visits of each root move, followed by the number of playouts
+         */
+        long[] run() {
+            Node root = new Node(-1, SimGame.HUMAN, null);
+            long done = 0;
+            while (done < iterations && System.nanoTime() < deadline) {
+                iterate(root);
+                done++;
+            }
+            long[] visits = new long[SimGame.MOVE_COUNT + 1];
+            if (root.children != null) {
+                for (Node child : root.children) {
+                    if (child != null) {
+                        visits[child.move] = child.visits;
+                    }
+                }
+            }
+            visits[SimGame.MOVE_COUNT] = done;
+            return visits;
+        }
+
+        private void iterate(Node root) {
+            determinize();
+            Node node = root;
+            while (!game.isOver()) {
+                int count = game.legalMoves(moves);
+                if (node.children == null) {
+                    node.children = new Node[SimGame.MOVE_COUNT];
+                }
+                int untried = 0;
+                for (int i = 0; i < count; i++) {
+                    if (node.children[moves[i]] == null) {
+                        untried++;
+                    }
+                }
+                if (untried > 0) {
+                    node = expand(node, count, random.nextInt(untried));
+                    break;
+                }
+                node = select(node, count);
+                game.apply(node.move);
+            }
+            int winner = game.isOver() ? game.winner() : game.rollout();
+            for (Node n = node; n != null; n = n.parent) {
+                n.visits++;
+                if (n.player == winner) {
+                    n.wins++;
+                }
+            }
+        }
+
+        /**
+         * Adds the {@code pick}-th untried move as a child and plays it.
+         */
+        private Node expand(Node node, int count, int pick) {
+            Node child = null;
+            for (int i = 0; i < count; i++) {
+                Node existing = node.children[moves[i]];
+                if (existing != null) {
+                    existing.availability++;
+                } else if (pick-- == 0) {
+                    child = new Node(moves[i], game.toMove(), node);
+                    child.availability = 1;
+                    node.children[moves[i]] = child;
+                }
+            }
+            game.apply(child.move);
+            return child;
+        }
+
+        /**
+         * Picks the legal child with the best UCB score, counting it and its siblings as available.
+         */
+        private Node select(Node node, int count) {
+            Node best = null;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < count; i++) {
+                Node child = node.children[moves[i]];
+                child.availability++;
+                double score = (double) child.wins / child.visits
+                        + EXPLORATION * Math.sqrt(Math.log(child.availability) / child.visits);
+                if (score > bestScore) {
+                    best = child;
+                    bestScore = score;
+                }
+            }
+            return best;
+        }
+
+        /**
+         * Resets the game to the root and moves a sampled human hand out of the deck.
+         */
+        private void determinize() {
+            game.copyFrom(base);
+            int count = sampler.sample(opponentHand.length, opponentHand, random);
+            for (int i = 0; i < count; i++) {
+                game.dealToHand(SimGame.HUMAN, opponentHand[i]);
+            }
+        }
+    }
+}
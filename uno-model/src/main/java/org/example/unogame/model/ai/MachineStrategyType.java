@@ -0,0 +1,71 @@
+package org.example.unogame.model.ai;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.random.RandomGenerator;
+
+/**
+ * Strategies the machine player can use in a game session.
+ *
+ * <ul>
+ *   <li>{@link #FIRST_LEGAL}: plays the first legal card in hand order, the default.</li>
+ *   <li>{@link #GREEDY}: sheds the most points first and saves wild cards (see {@link GreedyStrategy}).</li>
+ *   <li>{@link #ISMCTS}: searches the game tree over sampled hidden cards on the common
+ *       {@link ForkJoinPool}, within the {@link SearchBudget} of the session (see {@link IsMctsStrategy}),
+ *       and solves the last cards with the session's {@link EndgameSolver}.</li>
+ * </ul>
+ *
+ * <p>The strategy is chosen once per session through the {@value #PROPERTY} system property
+ * (e.g., {@code -Duno.strategy=GREEDY}); see {@link #fromSystemProperty()}.</p>
+ */
+public enum MachineStrategyType {
+    FIRST_LEGAL {
+        @Override
+        public IMachineStrategy create(Difficulty difficulty, RandomGenerator random) {
+            return new FirstLegalStrategy(new ColorChooser(difficulty, random));
+        }
+    },
+    GREEDY {
+        @Override
+        public IMachineStrategy create(Difficulty difficulty, RandomGenerator random) {
+            return new GreedyStrategy(new ColorChooser(difficulty, random));
+        }
+    },
+    ISMCTS {
+        @Override
+        public IMachineStrategy create(Difficulty difficulty, RandomGenerator random) {
+            return new IsMctsStrategy(SearchBudget.fromSystemProperties(), ForkJoinPool.commonPool(),
+                    new ColorChooser(difficulty, random), random, EndgameSolver.fromSystemProperties());
+        }
+    };
+
+    /** System property used to select the strategy for a session. */
+    public static final String PROPERTY = "uno.strategy";
+
+    /**
+     * Creates a new instance of this strategy for one machine player.
+     *
+     * @param difficulty strength the strategy plays at
+     * @param random     generator owned by the new strategy
+     * @return the strategy
+     */
+    public abstract IMachineStrategy create(Difficulty difficulty, RandomGenerator random);
+
+    /**
+     * Resolves the strategy selected through the {@value #PROPERTY} system property.
+     * Unknown or missing values fall back to {@link #FIRST_LEGAL}.
+     *
+     * @return the session's strategy type
+     */
+    public static MachineStrategyType fromSystemProperty() {
+        String name = System.getProperty(PROPERTY);
+        if (name == null || name.isBlank()) {
+            return FIRST_LEGAL;
+        }
+        try {
+            return valueOf(name.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            System.err.println("[MachineStrategyType] Estrategia desconocida: " + name + ", se usa FIRST_LEGAL.");
+            return FIRST_LEGAL;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package org.example.unogame.model.ai;
+
+import org.example.unogame.model.player.IPlayer;
+import org.example.unogame.model.rules.RulesEngine;
+
+/**
+ * What the machine can see when it is asked for a decision: its own hand, the table state,
+ * how many cards the opponent holds and what it has inferred about them.
+ *
+ * <p>A view is a snapshot taken at the start of the decision; strategies must not modify
+ * the hand through it.</p>
+ */
+public final class MachineView {
+
+    /** The machine's hand. */
+    private final IPlayer hand;
+
+    /** Code of the current top card. */
+    private final int topCode;
+
+    /** Effective color index of the top card (the declared color for wilds). */
+    private final int topColor;
+
+    /** Number of cards in the opponent's hand. */
+    private final int opponentHandSize;
+
+    /** Colored cards on the table, per playable color index. */
+    private final int[] playedColors;
+
+    /** Card ids on the table as a bitset. */
+    private final long tableMask;
+
+    /** Number of cards left in the deck. */
+    private final int deckSize;
+
+    /** Rules used to answer legality queries. */
+    private final RulesEngine rules;
+
+    /** What the machine believes about the opponent's hand. */
+    private final OpponentModel opponentModel;
+
+    /**
+     * Creates a view.
+     *
+     * @param hand             the machine's hand
+     * @param topCode          code of the current top card
+     * @param topColor         effective color index of the top card (the declared color for wilds)
+     * @param opponentHandSize number of cards in the opponent's hand
+     * @param playedColors     colored cards on the table, per playable color index
+     * @param tableMask        card ids on the table as a bitset
+     * @param deckSize         number of cards left in the deck
+     * @param rules            rules used to answer legality queries
+     */
+    public MachineView(IPlayer hand, int topCode, int topColor, int opponentHandSize,
+                       int[] playedColors, long tableMask, int deckSize, RulesEngine rules) {
+        this(hand, topCode, topColor, opponentHandSize, playedColors, tableMask, deckSize, rules, new OpponentModel());
+    }
+
+    /**
+     * Creates a view with what the machine has inferred about the opponent's hand.
+     *
+     * @param hand             the machine's hand
+     * @param topCode          code of the current top card
+     * @param topColor         effective color index of the top card (the declared color for wilds)
+     * @param opponentHandSize number of cards in the opponent's hand
+     * @param playedColors     colored cards on the table, per playable color index
+     * @param tableMask        card ids on the table as a bitset
+     * @param deckSize         number of cards left in the deck
+     * @param rules            rules used to answer legality queries
+     * @param opponentModel    what the machine believes about the opponent's hand
+     */
+    public MachineView(IPlayer hand, int topCode, int topColor, int opponentHandSize,
+                       int[] playedColors, long tableMask, int deckSize, RulesEngine rules,
+                       OpponentModel opponentModel) {
+        this.hand = hand;
+        this.topCode = topCode;
+        this.topColor = topColor;
+        this.opponentHandSize = opponentHandSize;
+        this.playedColors = playedColors;
+        this.tableMask = tableMask;
+        this.deckSize = deckSize;
+        this.rules = rules;
+        this.opponentModel = opponentModel;
+    }
+
+    /**
+     * @return the machine's hand
+     */
+    public IPlayer getHand() {
+        return hand;
+    }
+
+    /**
+     * @return the code of the current top card
+     */
+    public int getTopCode() {
+        return topCode;
+    }
+
+    /**
+     * @return the effective color index of the top card
+     */
+    public int getTopColor() {
+        return topColor;
+    }
+
+    /**
+     * @return the number of cards in the opponent's hand
+     */
+    public int getOpponentHandSize() {
+        return opponentHandSize;
+    }
+
+    /**
+     * @return the colored cards on the table, per playable color index
+     */
+    public int[] getPlayedColors() {
+        return playedColors;
+    }
+
+    /**
+     * @return the card ids on the table as a bitset
+     */
+    public long getTableMask() {
+        return tableMask;
+    }
+
+    /**
+     * @return the number of cards left in the deck
+     */
+    public int getDeckSize() {
+        return deckSize;
+    }
+
+    /**
+     * @return the rules used to answer legality queries
+     */
+    public RulesEngine getRules() {
+        return rules;
+    }
+
+    /**
+     * @return what the machine believes about the opponent's hand
+     */
+    public OpponentModel getOpponentModel() {
+        return opponentModel;
+    }
+
+    /**
+     * @return the hand's legal cards as a card-id bitset (see {@link RulesEngine#legalMask})
+     */
+    public long legalMask() {
+        return rules.legalMask(hand, topCode, topColor, false);
+    }
+}
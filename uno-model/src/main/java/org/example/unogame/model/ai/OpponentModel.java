@@ -0,0 +1,217 @@
+package org.example.unogame.model.ai;
+
+import org.example.unogame.model.card.CardIds;
+import org.example.unogame.model.rules.Playability;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * What the machine believes about the human's hand, updated as the human plays.
+ *
+ * <p>Every card the machine has not seen (neither in its hand nor on the table) is either in
+ * the human's hand or in the deck. The model keeps one weight per card id: how likely that
+ * card is to be in the hand rather than in the deck, relative to {@link #DEFAULT_WEIGHT}.
+ * The evidence is:</p>
+ * <ul>
+ *   <li>A draw by choice: the human probably had no legal card, so every card that was legal
+ *       loses weight. When the top card is a wild, the color was demanded by the machine and
+ *       those cards drop to zero. Any card is legal after a +4, so only the cards of its
+ *       declared color lose weight.</li>
+ *   <li>A wild declaration: the human probably holds the declared color, so its cards gain
+ *       weight.</li>
+ *   <li>Any draw: the hand got cards the machine cannot see, so older evidence fades halfway
+ *       back to the default.</li>
+ *   <li>A played card is on the table and its weight is reset.</li>
+ * </ul>
+ *
+ * <h2>Sampling</h2>
+ * <p>A search takes a {@link #sampler(long) sampler} over the current unseen cards and draws
+ * one determinization per iteration with {@link Sampler#sample}, in time proportional to the
+ * human's hand size rather than to the number of unseen cards.</p>
+ *
+ * <h2>Thread-safety</h2>
+ * <p>Updates come from the UI thread and samplers are created on the machine's thread, so the
+ * model is synchronized. A {@link Sampler} works on a copy of the weights and is owned by a
+ * single search worker.</p>
+ */
+public class OpponentModel {
+
+    /** Weight of a card nothing is known about. */
+    public static final int DEFAULT_WEIGHT = 4;
+
+    /** Highest weight: a card of this weight is as likely in the hand as the sample allows. */
+    public static final int MAX_WEIGHT = 8;
+
+    /** Weight of a legal card after the human chose to draw instead of playing. */
+    private static final int PASSED_WEIGHT = 1;
+
+    /** Hand weight of each card, indexed by card id. */
+    private final int[] weights = new int[CardIds.CARD_COUNT];
+
+    /**
+     * Creates a model that knows nothing about the human's hand.
+     */
+    public OpponentModel() {
+        reset();
+    }
+
+    /**
+     * Forgets all evidence, e.g., when a new game starts.
+     */
+    public synchronized void reset() {
+        Arrays.fill(weights, DEFAULT_WEIGHT);
+    }
+
+    /**
+     * Records a card played by the human.
+     *
+     * @param id the card id
+     */
+    public synchronized void opponentPlayed(int id) {
+        weights[id] = DEFAULT_WEIGHT;
+    }
+
+    /**
+     * Records the color the human declared for a wild.
+     *
+     * @param color the declared color index
+     */
+    public synchronized void opponentDeclared(int color) {
+        for (int rank = 0; rank < CardIds.COLORED_RANKS; rank++) {
+            int id = color * CardIds.COLORED_RANKS + rank;
+            weights[id] = Math.min(MAX_WEIGHT, weights[id] * 2);
+        }
+    }
+
+    /**
+     * Records that the human drew a card instead of playing one.
+     *
+     * @param topId    id of the top card when the human drew
+     * @param topColor effective color index of that card
+     */
+    public synchronized void opponentPassed(int topId, int topColor) {
+        fade();
+        if (topId == CardIds.DRAW_FOUR_ID) {
+            // Every card is legal after a +4, so only its declared color says anything
+            if (topColor >= 0 && topColor < CardIds.PLAYABLE_COLORS) {
+                for (int rank = 0; rank < CardIds.COLORED_RANKS; rank++) {
+                    int id = topColor * CardIds.COLORED_RANKS + rank;
+                    weights[id] = Math.min(weights[id], PASSED_WEIGHT);
+                }
+            }
+            return;
+        }
+        // After a wild the color was demanded, so holding it and not playing it is unlikely
+        int ceiling = topId == CardIds.WILD_ID ? 0 : PASSED_WEIGHT;
+        for (long bits = Playability.legalMask(topId, topColor, false); bits != 0L; bits &= bits - 1) {
+            int id = Long.numberOfTrailingZeros(bits);
+            weights[id] = Math.min(weights[id], ceiling);
+        }
+    }
+
+    /**
+     * Records cards the human had to draw (a +2, a +4 or an UNO penalty).
+     */
+    public synchronized void opponentDrew() {
+        fade();
+    }
+
+    /**
+     * Moves every weight halfway back to the default.
+     */
+    private void fade() {
+        for (int id = 0; id < weights.length; id++) {
+            weights[id] = (weights[id] + DEFAULT_WEIGHT) / 2;
+        }
+    }
+
+    /**
+     * @param id a card id
+     * @return the current hand weight of that card
+     */
+    public synchronized int weight(int id) {
+        return weights[id];
+    }
+
+    /**
+     * Creates a sampler over the cards the machine has not seen. Cards outside
+     * {@code unseenMask} are known to the machine, so their evidence is dropped; if they are
+     * recycled into the deck later, they come back with the default weight.
+     *
+     * @param unseenMask card ids that are in the human's hand or in the deck, as a bitset
+     * @return a sampler owned by the caller
+     */
+    public synchronized Sampler sampler(long unseenMask) {
+        for (int id = 0; id < weights.length; id++) {
+            if ((unseenMask & (1L << id)) == 0L) {
+                weights[id] = DEFAULT_WEIGHT;
+            }
+        }
+        return new Sampler(unseenMask, weights.clone());
+    }
+
+    /**
+     * Draws possible human hands from a snapshot of the model.
+     */
+    public static final class Sampler {
+
+        /** Unseen card ids, in the order left by the last sample. */
+        private final int[] pool;
+
+        /** Hand weight of each card, indexed by card id. */
+        private final int[] weights;
+
+        private Sampler(long unseenMask, int[] weights) {
+            this.pool = new int[Long.bitCount(unseenMask)];
+            int i = 0;
+            for (long bits = unseenMask; bits != 0L; bits &= bits - 1) {
+                pool[i++] = Long.numberOfTrailingZeros(bits);
+            }
+            this.weights = weights;
+        }
+
+        /**
+         * @return the number of unseen cards
+         */
+        public int size() {
+            return pool.length;
+        }
+
+        /**
+         * Draws a possible hand. Unseen cards are visited in random order (a partial
+         * Fisher–Yates shuffle) and each is kept with probability {@code weight / MAX_WEIGHT};
+         * if too few are kept, the hand is completed with skipped cards.
+         *
+         * @param handSize number of cards to draw
+         * @param hand     receives the card ids of the hand
+         * @param random   generator of the sample
+         * @return the number of card ids written, {@code handSize} unless fewer cards are unseen
+         */
+        public int sample(int handSize, int[] hand, RandomGenerator random) {
+            int count = Math.min(handSize, pool.length);
+            int kept = 0;
+            int visited = 0;
+            while (kept < count && visited < pool.length) {
+                swap(visited, visited + random.nextInt(pool.length - visited));
+                int id = pool[visited++];
+                int weight = weights[id];
+                if (weight >= MAX_WEIGHT || random.nextInt(MAX_WEIGHT) < weight) {
+                    // Kept cards stay at the front, skipped ones between them and the visited end
+                    swap(kept, visited - 1);
+                    hand[kept++] = id;
+                }
+            }
+            for (; kept < count; kept++) {
+                hand[kept] = pool[kept];
+            }
+            return count;
+        }
+
+        private void swap(int i, int j) {
+            int tmp = pool[i];
+            pool[i] = pool[j];
+            pool[j] = tmp;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package org.example.unogame.model.ai;
+
+/**
+ * How long a search strategy may think about one decision: a wall-clock limit, an iteration
+ * limit, or both (whichever is reached first).
+ *
+ * <p>A session's budget is read from the {@value #MILLIS_PROPERTY} and
+ * {@value #ITERATIONS_PROPERTY} system properties (e.g., {@code -Duno.search.millis=500});
+ * see {@link #fromSystemProperties()}. Fixing only the iterations makes a seeded search
+ * reproducible.</p>
+ */
+public final class SearchBudget {
+
+    /** System property with the time limit per decision, in milliseconds. */
+    public static final String MILLIS_PROPERTY = "uno.search.millis";
+
+    /** System property with the iteration limit per decision. */
+    public static final String ITERATIONS_PROPERTY = "uno.search.iterations";
+
+    /** Time limit used when no limit is configured, in milliseconds. */
+    public static final long DEFAULT_MILLIS = 250;
+
+    /** No limit of this kind. */
+    public static final long UNLIMITED = Long.MAX_VALUE;
+
+    /** Time limit per decision, in milliseconds. */
+    private final long millis;
+
+    /** Iteration limit per decision. */
+    private final long iterations;
+
+    private SearchBudget(long millis, long iterations) {
+        this.millis = millis;
+        this.iterations = iterations;
+    }
+
+    /**
+     * @param millis time limit per decision, in milliseconds
+     * @return a budget limited by time only
+     */
+    public static SearchBudget ofMillis(long millis) {
+        return new SearchBudget(millis, UNLIMITED);
+    }
+
+    /**
+     * @param iterations iteration limit per decision
+     * @return a budget limited by iterations only
+     */
+    public static SearchBudget ofIterations(long iterations) {
+        return new SearchBudget(UNLIMITED, iterations);
+    }
+
+    /**
+     * Resolves the budget configured through {@value #MILLIS_PROPERTY} and
+     * {@value #ITERATIONS_PROPERTY}. With neither set, or only invalid values, the budget
+     * is {@value #DEFAULT_MILLIS} ms.
+     *
+     * @return the session's search budget
+     */
+    public static SearchBudget fromSystemProperties() {
+        long millis = parse(MILLIS_PROPERTY);
+        long iterations = parse(ITERATIONS_PROPERTY);
+        if (millis == UNLIMITED && iterations == UNLIMITED) {
+            millis = DEFAULT_MILLIS;
+        }
+        return new SearchBudget(millis, iterations);
+    }
+
+    private static long parse(String property) {
+        String value = System.getProperty(property);
+        if (value == null || value.isBlank()) {
+            return UNLIMITED;
+        }
+        try {
+            long parsed = Long.parseLong(value.trim());
+            if (parsed > 0) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // fall through to the warning
+        }
+        System.err.println("[SearchBudget] Valor inválido para " + property + ": " + value);
+        return UNLIMITED;
+    }
+
+    /**
+     * @return the time limit per decision in milliseconds, or {@link #UNLIMITED}
+     */
+    public long getMillis() {
+        return millis;
+    }
+
+    /**
+     * @return the iteration limit per decision, or {@link #UNLIMITED}
+     */
+    public long getIterations() {
+        return iterations;
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.unogame.model.ai;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded cache of solved positions, keyed by {@link org.example.unogame.model.sim.SimGame#hash()}.
+ *
+ * <p>The table keeps at most {@code capacity} positions and evicts the least recently used
+ * one when it is full, so repeated solves of a long endgame stay within a fixed memory
+ * budget while the positions being searched remain cached.</p>
+ *
+ * <h2>Thread-safety</h2>
+ * <p>Not thread-safe; owned by one solver.</p>
+ */
+class TranspositionTable {
+
+    /** A solved position. */
+    static final class Entry {
+        /** Machine's winning probability. */
+        final double value;
+
+        /** Plies searched below the position. */
+        final int depth;
+
+        /** {@code true} if the search reached the end of every line, so the value is exact at any depth. */
+        final boolean exact;
+
+        Entry(double value, int depth, boolean exact) {
+            this.value = value;
+            this.depth = depth;
+            this.exact = exact;
+        }
+    }
+
+    /** Maximum number of positions kept. */
+    private final int capacity;
+
+    /** Positions in access order, least recently used first. */
+    private final LinkedHashMap<Long, Entry> entries;
+
+    /**
+     * @param capacity maximum number of positions kept
+     */
+    TranspositionTable(int capacity) {
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > TranspositionTable.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Looks up a position searched at least {@code depth} plies deep, or solved exactly.
+     *
+     * @param hash  hash of the position
+     * @param depth plies the caller needs
+     * @return the stored entry, or {@code null} if there is none deep enough
+     */
+    Entry get(long hash, int depth) {
+        Entry entry = entries.get(hash);
+        return entry != null && (entry.exact || entry.depth >= depth) ? entry : null;
+    }
+
+    /**
+     * Stores a position, evicting the least recently used one if the table is full.
+     */
+    void put(long hash, double value, int depth, boolean exact) {
+        entries.put(hash, new Entry(value, depth, exact));
+    }
+
+    /**
+     * @return the number of positions kept
+     */
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return the maximum number of positions kept
+     */
+    int capacity() {
+        return capacity;
+    }
+}
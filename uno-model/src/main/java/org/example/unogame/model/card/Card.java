@@ -0,0 +1,151 @@
+package org.example.unogame.model.card;
+
+import org.example.unogame.model.unoenum.UnoEnum;
+
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+
+/**
+ * Wrapper of a single Uno card, exposing its value, color and image asset.
+ *
+ * <p>The card itself is a packed {@link CardCode}; the deck, the table and the players
+ * store codes only. Cards form an immutable flyweight catalog: there is exactly one
+ * instance per card face in {@link UnoEnum}, obtained through {@link #of(int)}, so cards
+ * can be shared freely across threads and simulated games. The color declared for a
+ * played wild is table state (see
+ * {@link org.example.unogame.model.table.Table#setColorOnTheTable(String)}), never a
+ * change to the card.</p>
+ *
+ * <p>This class has no JavaFX dependency; the application renders cards through its
+ * view adapter, which resolves the face image from {@link #getAsset()}.</p>
+ */
+public class Card implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /** The catalog: one instance per card face, indexed by code ({@code null} for unused codes). */
+    private static final Card[] CATALOG = new Card[CardCode.CODE_SPACE];
+
+    static {
+        for (UnoEnum cardEnum : UnoEnum.values()) {
+            int code = CardCode.fromEnum(cardEnum);
+            if (code >= 0) {
+                CATALOG[code] = new Card(code);
+            }
+        }
+    }
+
+    /** Packed card code (see {@link CardCode}). */
+    private final int code;
+
+    private Card(int code) {
+        this.code = code;
+    }
+
+    /**
+     * Returns the catalog instance of a card code.
+     *
+     * @param code a packed card code
+     * @return the shared card for that code
+     * @throws IllegalArgumentException if the code is not a card face of the catalog
+     */
+    public static Card of(int code) {
+        Card card = code >= 0 && code < CATALOG.length ? CATALOG[code] : null;
+        if (card == null) {
+            throw new IllegalArgumentException("Código de carta inválido: " + code);
+        }
+        return card;
+    }
+
+    /**
+     * Returns the catalog instance of a card face.
+     *
+     * @param value the face value (e.g., numbers, "SKIP", "+2", "+4", "WILD")
+     * @param color the card color (e.g., "RED", "GREEN", "BLUE", "YELLOW", or "BLACK" for wilds)
+     * @return the shared card for that face
+     * @throws IllegalArgumentException if the value or color is not part of the card universe
+     */
+    public static Card of(String value, String color) {
+        return of(CardCode.parse(value, color));
+    }
+
+    /**
+     * @return the asset holding the card's face image
+     */
+    public UnoEnum getAsset() {
+        return CardCode.assetOf(code);
+    }
+
+    /**
+     * @return the classpath resource path of the card's face image
+     */
+    private String getUrl() {
+        return CardCode.assetOf(code).getFilePath();
+    }
+
+    /**
+     * @return the file name of the card's face image
+     */
+    public String getImageName() {
+        String url = getUrl();
+        int lastSlash = url.lastIndexOf('/');
+        return lastSlash >= 0 ? url.substring(lastSlash + 1) : url;
+    }
+
+    /**
+     * @return the packed code of this card (see {@link CardCode})
+     */
+    public int getCode() {
+        return code;
+    }
+
+    /**
+     * Returns the dense id of this card face (see {@link CardIds}). Wild cards keep the same
+     * id whatever color has been declared on them.
+     *
+     * @return the card id
+     */
+    public int getId() {
+        return CardCode.toId(code);
+    }
+
+    public String getValue() {
+        return CardIds.RANKS[CardCode.rankOf(code)];
+    }
+
+    /**
+     * @return the printed color of the card ("BLACK" for wild cards)
+     */
+    public String getColor() {
+        return CardIds.COLORS[CardCode.colorOf(code)];
+    }
+
+    public String getImagePath() {
+        return "/org/example/unogame/cards-uno/" + getImageName();
+    }
+
+    /**
+     * Cards are equal when they encode the same card.
+     *
+     * @param o the object to compare with
+     * @return {@code true} if {@code o} is a card with the same code
+     */
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof Card && ((Card) o).code == code);
+    }
+
+    @Override
+    public int hashCode() {
+        return code;
+    }
+
+    /**
+     * Replaces deserialized cards with the catalog instance.
+     *
+     * @return the catalog instance for this card's code
+     * @throws ObjectStreamException never thrown; declared by the serialization contract
+     */
+    private Object readResolve() throws ObjectStreamException {
+        return of(code);
+    }
+}
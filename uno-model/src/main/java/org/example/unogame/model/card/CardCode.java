@@ -0,0 +1,188 @@
+package org.example.unogame.model.card;
+
+import org.example.unogame.model.unoenum.UnoEnum;
+
+/**
+ * Compact integer encoding of a card, as stored by the deck, the table and the players.
+ *
+ * <p>A code packs three fields into 9 bits, so it fits in a {@code short}:</p>
+ * <pre>
+ *   bits 0-2  color index  (RED, YELLOW, GREEN, BLUE, BLACK; see {@link CardIds#COLORS})
+ *   bits 3-6  rank index   (0-9, SKIP, RESERVE, +2, WILD, +4; see {@link CardIds#RANKS})
+ *   bits 7-8  kind         ({@link #KIND_NUMBER}, {@link #KIND_ACTION}, {@link #KIND_WILD})
+ * </pre>
+ *
+ * <p>Wild cards are always {@code BLACK}; the color declared for a played wild is held by
+ * the table. Rules and simulations work on codes directly, and {@link Card} is only a
+ * wrapper used by the view.</p>
+ */
+public final class CardCode {
+
+    /** Number of distinct code values; every code is in {@code [0, CODE_SPACE)}. */
+    public static final int CODE_SPACE = 1 << 9;
+
+    /** Kind of the number cards 0-9. */
+    public static final int KIND_NUMBER = 0;
+
+    /** Kind of SKIP, RESERVE and +2. */
+    public static final int KIND_ACTION = 1;
+
+    /** Kind of WILD and +4. */
+    public static final int KIND_WILD = 2;
+
+    private static final int COLOR_MASK = 0x7;
+    private static final int RANK_SHIFT = 3;
+    private static final int RANK_MASK = 0xF;
+    private static final int KIND_SHIFT = 7;
+
+    /** Code of each card face, indexed by {@link UnoEnum} ordinal ({@code -1} for non-card assets). */
+    private static final int[] ENUM_CODES = new int[UnoEnum.values().length];
+
+    /** Card face asset, indexed by code. */
+    private static final UnoEnum[] ASSETS = new UnoEnum[CODE_SPACE];
+
+    static {
+        for (UnoEnum cardEnum : UnoEnum.values()) {
+            int code = parseEnumName(cardEnum.name());
+            ENUM_CODES[cardEnum.ordinal()] = code;
+            if (code >= 0) {
+                ASSETS[code] = cardEnum;
+            }
+        }
+    }
+
+    private CardCode() {}
+
+    /**
+     * Builds the code of a card from its rank and color indices.
+     *
+     * @param rank  rank index from {@link CardIds#RANKS}
+     * @param color color index from {@link CardIds#COLORS}
+     * @return the packed code
+     */
+    public static int of(int rank, int color) {
+        int kind = rank >= CardIds.WILD_RANK ? KIND_WILD
+                : rank > CardIds.MAX_NUMBER_RANK ? KIND_ACTION : KIND_NUMBER;
+        return (kind << KIND_SHIFT) | (rank << RANK_SHIFT) | color;
+    }
+
+    /**
+     * Parses a card face value and color.
+     *
+     * @param value the face value (e.g., "7", "SKIP", "+2", "+4", "WILD")
+     * @param color the color name
+     * @return the packed code
+     * @throws IllegalArgumentException if the value or color is unknown
+     */
+    public static int parse(String value, String color) {
+        int rank = CardIds.rankIndex(value);
+        int colorIndex = CardIds.colorIndex(color);
+        if (rank < 0 || colorIndex < 0) {
+            throw new IllegalArgumentException("Carta desconocida: " + value + " " + color);
+        }
+        return of(rank, colorIndex);
+    }
+
+    /**
+     * @param cardEnum a card asset
+     * @return the code of the card face, or {@code -1} if the asset is not a card (e.g., icons)
+     */
+    public static int fromEnum(UnoEnum cardEnum) {
+        return ENUM_CODES[cardEnum.ordinal()];
+    }
+
+    /**
+     * @param code a card code
+     * @return the asset holding the card's face image
+     */
+    public static UnoEnum assetOf(int code) {
+        return ASSETS[code];
+    }
+
+    /**
+     * @param code a card code
+     * @return the printed color index ({@code BLACK} for wilds)
+     */
+    public static int colorOf(int code) {
+        return code & COLOR_MASK;
+    }
+
+    /**
+     * @param code a card code
+     * @return the rank index
+     */
+    public static int rankOf(int code) {
+        return (code >> RANK_SHIFT) & RANK_MASK;
+    }
+
+    /**
+     * @param code a card code
+     * @return the kind ({@link #KIND_NUMBER}, {@link #KIND_ACTION} or {@link #KIND_WILD})
+     */
+    public static int kindOf(int code) {
+        return code >> KIND_SHIFT;
+    }
+
+    /**
+     * @param code a card code
+     * @return {@code true} for WILD and +4
+     */
+    public static boolean isWild(int code) {
+        return kindOf(code) == KIND_WILD;
+    }
+
+    /**
+     * @param code a card code
+     * @return {@code true} for the number cards 0-9
+     */
+    public static boolean isNumber(int code) {
+        return kindOf(code) == KIND_NUMBER;
+    }
+
+    /**
+     * Maps a code to its dense id (see {@link CardIds}).
+     *
+     * @param code a card code
+     * @return the dense card id
+     */
+    public static int toId(int code) {
+        int rank = rankOf(code);
+        if (rank == CardIds.WILD_RANK) return CardIds.WILD_ID;
+        if (rank == CardIds.DRAW_FOUR_RANK) return CardIds.DRAW_FOUR_ID;
+        return colorOf(code) * CardIds.COLORED_RANKS + rank;
+    }
+
+    /**
+     * Maps a dense id back to its code.
+     *
+     * @param id a dense card id
+     * @return the packed code
+     */
+    public static int fromId(int id) {
+        return of(CardIds.rankOf(id), CardIds.colorOf(id));
+    }
+
+    /**
+     * Derives the code of a card face from its asset name.
+     *
+     * @param name enum constant name (e.g., "GREEN_7", "SKIP_RED", "FOUR_WILD_DRAW")
+     * @return the packed code, or {@code -1} if the name is not a card face
+     */
+    private static int parseEnumName(String name) {
+        if (name.equals("WILD")) return of(CardIds.WILD_RANK, CardIds.BLACK);
+        if (name.equals("FOUR_WILD_DRAW")) return of(CardIds.DRAW_FOUR_RANK, CardIds.BLACK);
+
+        int color = -1;
+        for (int i = 0; i < CardIds.PLAYABLE_COLORS; i++) {
+            if (name.contains(CardIds.COLORS[i])) color = i;
+        }
+        if (color < 0) return -1;
+
+        if (name.startsWith("SKIP_")) return of(CardIds.SKIP_RANK, color);
+        if (name.startsWith("RESERVE_")) return of(CardIds.RESERVE_RANK, color);
+        if (name.startsWith("TWO_WILD_DRAW_")) return of(CardIds.DRAW_TWO_RANK, color);
+        char last = name.charAt(name.length() - 1);
+        if (Character.isDigit(last)) return of(last - '0', color);
+        return -1;
+    }
+}
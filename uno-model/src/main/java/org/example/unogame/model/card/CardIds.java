@@ -0,0 +1,140 @@
+package org.example.unogame.model.card;
+
+/**
+ * Dense integer identities for the Uno card universe.
+ *
+ * <p>Every distinct card face in {@link org.example.unogame.model.unoenum.UnoEnum} maps to a
+ * small id in {@code [0, }{@value #CARD_COUNT}{@code )}: the 52 colored cards are laid out as
+ * {@code color * 13 + rank}, followed by {@link #WILD_ID} and {@link #DRAW_FOUR_ID}. Colors
+ * and ranks have their own indices so lookup tables can be addressed with plain arithmetic.</p>
+ *
+ * <ul>
+ *   <li>Colors: {@code RED, YELLOW, GREEN, BLUE}, then {@code BLACK} for undeclared wilds.</li>
+ *   <li>Ranks: {@code 0..9}, {@code SKIP}, {@code RESERVE}, {@code +2}, {@code WILD}, {@code +4}.</li>
+ * </ul>
+ */
+public final class CardIds {
+
+    /** Color names indexed by color index; {@code BLACK} is the color of an undeclared wild. */
+    public static final String[] COLORS = {"RED", "YELLOW", "GREEN", "BLUE", "BLACK"};
+
+    /** Face values indexed by rank index. */
+    public static final String[] RANKS = {"0", "1", "2", "3", "4", "5", "6", "7", "8", "9",
+            "SKIP", "RESERVE", "+2", "WILD", "+4"};
+
+    /** Number of playable colors (excludes {@code BLACK}). */
+    public static final int PLAYABLE_COLORS = 4;
+
+    /** Color index of {@code BLACK}. */
+    public static final int BLACK = 4;
+
+    /** Ranks that exist in every playable color ({@code 0..9}, SKIP, RESERVE, +2). */
+    public static final int COLORED_RANKS = 13;
+
+    /** Rank index of a number card's highest value. */
+    public static final int MAX_NUMBER_RANK = 9;
+
+    /** Rank index of SKIP. */
+    public static final int SKIP_RANK = 10;
+
+    /** Rank index of RESERVE. */
+    public static final int RESERVE_RANK = 11;
+
+    /** Rank index of +2. */
+    public static final int DRAW_TWO_RANK = 12;
+
+    /** Rank index of WILD. */
+    public static final int WILD_RANK = 13;
+
+    /** Rank index of +4. */
+    public static final int DRAW_FOUR_RANK = 14;
+
+    /** Id of the WILD card. */
+    public static final int WILD_ID = PLAYABLE_COLORS * COLORED_RANKS;
+
+    /** Id of the +4 card. */
+    public static final int DRAW_FOUR_ID = WILD_ID + 1;
+
+    /** Number of distinct card ids. */
+    public static final int CARD_COUNT = DRAW_FOUR_ID + 1;
+
+    private CardIds() {}
+
+    /**
+     * Resolves the id of a card face.
+     *
+     * @param value the face value (e.g., "7", "SKIP", "+2", "+4", "WILD")
+     * @param color the printed color; ignored for wild cards
+     * @return the dense card id
+     * @throws IllegalArgumentException if the value/color pair is not part of the card universe
+     */
+    public static int idOf(String value, String color) {
+        int rank = rankIndex(value);
+        if (rank == WILD_RANK) return WILD_ID;
+        if (rank == DRAW_FOUR_RANK) return DRAW_FOUR_ID;
+        int colorIndex = colorIndex(color);
+        if (rank < 0 || colorIndex < 0 || colorIndex == BLACK) {
+            throw new IllegalArgumentException("Carta desconocida: " + value + " " + color);
+        }
+        return colorIndex * COLORED_RANKS + rank;
+    }
+
+    /**
+     * @param id a card id
+     * @return the card's rank index
+     */
+    public static int rankOf(int id) {
+        if (id == WILD_ID) return WILD_RANK;
+        if (id == DRAW_FOUR_ID) return DRAW_FOUR_RANK;
+        return id % COLORED_RANKS;
+    }
+
+    /**
+     * @param id a card id
+     * @return the card's printed color index ({@link #BLACK} for wild cards)
+     */
+    public static int colorOf(int id) {
+        return id >= WILD_ID ? BLACK : id / COLORED_RANKS;
+    }
+
+    /**
+     * Score of a card left in hand when the game ends by points: number cards are worth their
+     * face value, SKIP/RESERVE/+2 are worth 20 and WILD/+4 are worth 50.
+     *
+     * @param id a card id
+     * @return the card's point value
+     */
+    public static int pointsOf(int id) {
+        int rank = rankOf(id);
+        if (rank <= MAX_NUMBER_RANK) return rank;
+        return id >= WILD_ID ? 50 : 20;
+    }
+
+    /**
+     * @param color a color name
+     * @return its color index, or {@code -1} if the name is unknown
+     */
+    public static int colorIndex(String color) {
+        if (color == null) return -1;
+        switch (color) {
+            case "RED": return 0;
+            case "YELLOW": return 1;
+            case "GREEN": return 2;
+            case "BLUE": return 3;
+            case "BLACK": return BLACK;
+            default: return -1;
+        }
+    }
+
+    /**
+     * @param value a face value
+     * @return its rank index, or {@code -1} if the value is unknown
+     */
+    public static int rankIndex(String value) {
+        if (value == null) return -1;
+        for (int i = 0; i < RANKS.length; i++) {
+            if (RANKS[i].equals(value)) return i;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,258 @@
+package org.example.unogame.model.deck;
+
+import org.example.unogame.model.card.CardCode;
+import org.example.unogame.model.card.CardIds;
+import org.example.unogame.model.exception.GameException;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Undealt pile kept as a multiset, for simulations and rollouts.
+ *
+ * <p>Instead of an ordered array of cards, the deck keeps how many copies of each card id
+ * (see {@link CardIds}) are left, one byte per id, and draws by weighted sampling: a card id
+ * is picked with probability proportional to its remaining copies, which is the same
+ * distribution as drawing the top card of a uniformly shuffled deck. The order of the
+ * undealt cards is never materialized, so there is nothing to shuffle.</p>
+ *
+ * <p>The whole state is {@value CardIds#CARD_COUNT} counters and a total, so
+ * {@link #copy(RandomGenerator)} costs a few dozen bytes and {@link #copyFrom(CountDeck)}
+ * allocates nothing, which keeps cloning a game state for a rollout nearly free. It is the
+ * undealt pile of {@link org.example.unogame.model.sim.SimGame}; the methods taking a card id
+ * instead of a code are for that hot path.</p>
+ *
+ * <p>Each counter is a byte, so a deck holds at most {@value #MAX_COPIES} copies of a card.</p>
+ *
+ * <h2>Composition</h2>
+ * <ul>
+ *   <li>{@link #standardComposition()}: the full 108-card Uno deck (one 0 and two of every
+ *       other colored card per color, four WILD and four +4).</li>
+ *   <li>{@link #singleComposition()}: one copy of every card face, like the game's {@link Deck}.</li>
+ * </ul>
+ *
+ * <h2>Thread-safety</h2>
+ * <p>This class is <em>not</em> thread-safe; give each rollout its own copy and generator.</p>
+ */
+public class CountDeck implements IDeck {
+
+    /** Number of cards in the standard Uno composition. */
+    public static final int STANDARD_SIZE = 108;
+
+    /** Most copies of one card the deck can hold. */
+    public static final int MAX_COPIES = Byte.MAX_VALUE;
+
+    /** Remaining copies of each card, indexed by card id. */
+    private final byte[] counts;
+
+    /** Total number of cards left (sum of {@link #counts}). */
+    private int remaining;
+
+    /** Generator used to sample draws. */
+    private final RandomGenerator random;
+
+    /**
+     * Creates a deck with the full 108-card composition.
+     *
+     * @param random generator used to sample draws
+     */
+    public CountDeck(RandomGenerator random) {
+        this(standardComposition(), random);
+    }
+
+    /**
+     * Creates a deck with the given composition.
+     *
+     * @param copies copies of each card, indexed by card id ({@value CardIds#CARD_COUNT} entries)
+     * @param random generator used to sample draws
+     * @throws IllegalArgumentException if the composition has the wrong length or a negative count
+     */
+    public CountDeck(byte[] copies, RandomGenerator random) {
+        if (copies.length != CardIds.CARD_COUNT) {
+            // Keep message in Spanish by design
+            throw new IllegalArgumentException("La composición debe tener " + CardIds.CARD_COUNT + " entradas.");
+        }
+        this.counts = copies.clone();
+        this.random = random;
+        for (byte count : counts) {
+            if (count < 0) {
+                throw new IllegalArgumentException("La composición no puede tener cantidades negativas.");
+            }
+            remaining += count;
+        }
+    }
+
+    /**
+     * Copy constructor; shares nothing with {@code other} but the composition values.
+     */
+    private CountDeck(CountDeck other, RandomGenerator random) {
+        this.counts = other.counts.clone();
+        this.remaining = other.remaining;
+        this.random = random;
+    }
+
+    /**
+     * @return the copies of each card in a standard 108-card Uno deck, indexed by card id
+     */
+    public static byte[] standardComposition() {
+        byte[] copies = new byte[CardIds.CARD_COUNT];
+        for (int color = 0; color < CardIds.PLAYABLE_COLORS; color++) {
+            for (int rank = 0; rank < CardIds.COLORED_RANKS; rank++) {
+                copies[color * CardIds.COLORED_RANKS + rank] = (byte) (rank == 0 ? 1 : 2);
+            }
+        }
+        copies[CardIds.WILD_ID] = 4;
+        copies[CardIds.DRAW_FOUR_ID] = 4;
+        return copies;
+    }
+
+    /**
+     * @return one copy of every card face, indexed by card id
+     */
+    public static byte[] singleComposition() {
+        byte[] copies = new byte[CardIds.CARD_COUNT];
+        Arrays.fill(copies, (byte) 1);
+        return copies;
+    }
+
+    /**
+     * Draws a card by weighted sampling over the remaining copies.
+     *
+     * @return the code of the drawn card
+     * @throws GameException.OutOfCardsInDeck if the deck is empty
+     */
+    @Override
+    public int takeCode() throws GameException.OutOfCardsInDeck {
+        if (remaining == 0) {
+            throw new GameException.OutOfCardsInDeck();
+        }
+        return CardCode.fromId(takeId());
+    }
+
+    /**
+     * Draws a card by weighted sampling over the remaining copies.
+     *
+     * @return the id of the drawn card
+     * @throws IllegalStateException if the deck is empty
+     */
+    public int takeId() {
+        if (remaining == 0) {
+            // Keep message in Spanish by design
+            throw new IllegalStateException("No hay cartas en el mazo.");
+        }
+        int r = random.nextInt(remaining);
+        int id = 0;
+        while (r >= counts[id]) {
+            r -= counts[id];
+            id++;
+        }
+        counts[id]--;
+        remaining--;
+        return id;
+    }
+
+    /**
+     * Removes one copy of a known card (e.g., a card seen in a hand or on the table).
+     *
+     * @param code the packed code of the card
+     * @return {@code true} if a copy was left and has been removed
+     */
+    public boolean remove(int code) {
+        return removeId(CardCode.toId(code));
+    }
+
+    /**
+     * Removes one copy of a known card.
+     *
+     * @param id the card id
+     * @return {@code true} if a copy was left and has been removed
+     */
+    public boolean removeId(int id) {
+        if (counts[id] == 0) {
+            return false;
+        }
+        counts[id]--;
+        remaining--;
+        return true;
+    }
+
+    /**
+     * Puts one copy of a card back into the deck (e.g., recycled discards).
+     *
+     * @param code the packed code of the card
+     * @throws IllegalStateException if the deck already holds {@value #MAX_COPIES} copies of the card
+     */
+    public void add(int code) {
+        addId(CardCode.toId(code));
+    }
+
+    /**
+     * Puts one copy of a card back into the deck.
+     *
+     * @param id the card id
+     * @throws IllegalStateException if the deck already holds {@value #MAX_COPIES} copies of the card
+     */
+    public void addId(int id) {
+        if (counts[id] == MAX_COPIES) {
+            // Keep message in Spanish by design
+            throw new IllegalStateException("El mazo no admite más de " + MAX_COPIES + " copias de una carta.");
+        }
+        counts[id]++;
+        remaining++;
+    }
+
+    /**
+     * @param code the packed code of a card
+     * @return the number of copies of that card left in the deck
+     */
+    public int count(int code) {
+        return countOf(CardCode.toId(code));
+    }
+
+    /**
+     * @param id a card id
+     * @return the number of copies of that card left in the deck
+     */
+    public int countOf(int id) {
+        return counts[id];
+    }
+
+    /**
+     * Resets this deck to the cards of another one, without allocating. The generator of this
+     * deck is kept.
+     *
+     * @param other the deck to copy
+     */
+    public void copyFrom(CountDeck other) {
+        System.arraycopy(other.counts, 0, counts, 0, counts.length);
+        remaining = other.remaining;
+    }
+
+    /**
+     * Removes every card.
+     */
+    public void clear() {
+        Arrays.fill(counts, (byte) 0);
+        remaining = 0;
+    }
+
+    /**
+     * Copies this deck for a rollout.
+     *
+     * @param random generator for the copy's draws
+     * @return an independent deck with the same remaining cards
+     */
+    public CountDeck copy(RandomGenerator random) {
+        return new CountDeck(this, random);
+    }
+
+    @Override
+    public int size() {
+        return remaining;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return remaining == 0;
+    }
+}
@@ -0,0 +1,354 @@
+package org.example.unogame.model.deck;
+
+import org.example.unogame.model.exception.GameException;
+import org.example.unogame.model.machine.observers.observable;
+import org.example.unogame.model.machine.observers.observableClass;
+import org.example.unogame.model.machine.observers.observer;
+import org.example.unogame.model.unoenum.UnoEnum;
+import org.example.unogame.model.card.Card;
+import org.example.unogame.model.card.CardCode;
+import org.example.unogame.model.card.CardIds;
+import org.example.unogame.model.player.IPlayer;
+import org.example.unogame.model.table.Table;
+
+import java.io.Serializable;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Represents the Uno deck, including creation, shuffling, and card drawing.
+ *
+ * <p>This is the ordered {@link IDeck} used by the live game; simulations that only need
+ * the multiset of undealt cards use {@link CountDeck}.</p>
+ *
+ * <p>The deck stores packed {@link CardCode} values in a fixed-capacity primitive array
+ * with a top pointer ({@code cards[top - 1]} is the top card), initialized from the card
+ * faces in {@link UnoEnum}. The capacity is the whole card universe, so the array never
+ * grows. Drawing one card ({@link #takeCode()}) or several ({@link #drawN(IPlayer, int)},
+ * used for +2/+4 penalties) is O(1) per card and allocates nothing; {@link Card} wrappers
+ * are only produced when a card is handed out through {@link #takeCard()}.</p>
+ *
+ * <h2>Shuffling</h2>
+ * <p>Shuffles are an in-place Fisher–Yates over the array, driven by a pluggable
+ * {@link RandomGenerator} (a {@link SplittableRandom} unless one is supplied). Cards put
+ * back into the deck (recycled discards or {@link #reloadFrom(short[])}) are shuffled
+ * lazily: each draw picks a uniformly random remaining card, which is the same
+ * Fisher–Yates spread over the draws, so a reshuffle costs nothing up front.</p>
+ *
+ * <h2>Recycling</h2>
+ * <p>{@link #takeCodeRecycling(Table)} draws a card and, if the deck is empty, first takes
+ * over the table's discard buffer in place of its own (see {@link Table#recycleInto(Deck)}).
+ * No card is copied, and the operation is atomic with respect to the table.</p>
+ *
+ * <h2>Events</h2>
+ * <p>When a draw takes the last card, registered observers are notified with
+ * {@code "DECK_EMPTY"}.</p>
+ *
+ * <h2>Thread-safety</h2>
+ * <p>This class is <em>not</em> thread-safe. If accessed from multiple threads,
+ * clients must provide their own synchronization.</p>
+ */
+public class Deck implements IDeck, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /** Number of slots in the deck: one per card face of the catalog. */
+    public static final int CAPACITY = CardIds.CARD_COUNT;
+
+    /** Card codes in the deck; {@code cards[top - 1]} is the top card. */
+    private short[] cards = new short[CAPACITY];
+
+    /** Number of cards currently in the deck (index of the first free slot). */
+    private int top;
+
+    /** Whether cards were put back without a shuffle; draws then pick a random remaining card. */
+    private boolean shufflePending;
+
+    /** Generator used for shuffles; not persisted, a default one is created after loading a saved game. */
+    private transient RandomGenerator random;
+
+    /** Observers of deck depletion; not persisted, recreated lazily after loading a saved game. */
+    private transient observable deckEvents;
+
+    /**
+     * Creates a new deck and fully initializes it from {@link UnoEnum} values.
+     * The deck is shuffled after creation with a default generator.
+     *
+     * @throws GameException if any card resource cannot be created or validated
+     */
+    public Deck() throws GameException {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Creates a new deck and fully initializes it from {@link UnoEnum} values.
+     * The deck is shuffled after creation with the given generator.
+     *
+     * @param random generator used for this and every later shuffle
+     * @throws GameException if any card resource cannot be created or validated
+     */
+    public Deck(RandomGenerator random) throws GameException {
+        this.random = random;
+        initializeDeck();
+    }
+
+    /**
+     * Scans all {@link UnoEnum} constants, filters valid card entries,
+     * encodes them and pushes them onto the deck. Finally shuffles the deck.
+     *
+     * @throws GameException if a card has an invalid value/color
+     */
+    private void initializeDeck() throws GameException {
+        for (UnoEnum cardEnum : UnoEnum.values()) {
+            if (cardEnum.name().startsWith("GREEN_") ||
+                    cardEnum.name().startsWith("YELLOW_") ||
+                    cardEnum.name().startsWith("BLUE_") ||
+                    cardEnum.name().startsWith("RED_") ||
+                    cardEnum.name().startsWith("SKIP_") ||
+                    cardEnum.name().startsWith("RESERVE_") ||
+                    cardEnum.name().startsWith("TWO_WILD_DRAW_") ||
+                    cardEnum.name().equals("FOUR_WILD_DRAW") ||
+                    cardEnum.name().equals("WILD")) {
+
+                int code = CardCode.fromEnum(cardEnum);
+                if (code < 0) {
+                    // Keep string as-is (Spanish by design)
+                    throw new GameException.IllegalCardValue("Valor inválido para: " + cardEnum.name());
+                }
+                push(code);
+            }
+        }
+        shuffle();
+    }
+
+    /**
+     * Derives the logical Uno value from an enum constant name.
+     *
+     * @param name enum constant name (e.g., "GREEN_7", "SKIP_RED", "FOUR_WILD_DRAW")
+     * @return the card value (e.g., "7", "SKIP", "+4", "WILD"), or {@code null} if not recognized
+     */
+    public static String getCardValue(String name) {
+        int code = codeOfName(name);
+        return code < 0 ? null : CardIds.RANKS[CardCode.rankOf(code)];
+    }
+
+    /**
+     * Derives the Uno color from an enum constant name.
+     *
+     * @param name enum constant name
+     * @return one of "GREEN", "YELLOW", "BLUE", "RED", "BLACK" (for wild cards), or {@code null} if unknown
+     */
+    public static String getCardColor(String name) {
+        int code = codeOfName(name);
+        return code < 0 ? null : CardIds.COLORS[CardCode.colorOf(code)];
+    }
+
+    /**
+     * @param name enum constant name
+     * @return the code of the named card face, or {@code -1} if the name is not a card face
+     */
+    private static int codeOfName(String name) {
+        try {
+            return CardCode.fromEnum(UnoEnum.valueOf(name));
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Removes and returns the top card from the deck.
+     *
+     * @return the top {@link Card}
+     * @throws GameException.OutOfCardsInDeck if the deck is empty
+     */
+    @Override
+    public Card takeCard() throws GameException.OutOfCardsInDeck {
+        return Card.of(takeCode());
+    }
+
+    /**
+     * Removes the top card from the deck and returns its code.
+     *
+     * @return the code of the top card
+     * @throws GameException.OutOfCardsInDeck if the deck is empty
+     */
+    @Override
+    public int takeCode() throws GameException.OutOfCardsInDeck {
+        if (top == 0) {
+            throw new GameException.OutOfCardsInDeck();
+        }
+        if (shufflePending) {
+            // One lazy Fisher–Yates step: move a random remaining card to the top
+            int j = random().nextInt(top);
+            short tmp = cards[j];
+            cards[j] = cards[top - 1];
+            cards[top - 1] = tmp;
+        }
+        int code = cards[--top];
+        if (top == 0) {
+            deckEvents().notification("DECK_EMPTY");
+        }
+        return code;
+    }
+
+    /**
+     * Removes the top card from the deck and returns its code, first recycling the table's
+     * discards (all but its top card) into the deck if the deck is empty.
+     *
+     * <p>The check, the recycle and the draw run under the table's lock, so two threads
+     * drawing at the same time never recycle the same pile twice.</p>
+     *
+     * @param table the table whose discards are recycled when needed
+     * @return the code of the drawn card
+     * @throws GameException.OutOfCardsInDeck if both the deck and the discard pile are empty
+     */
+    public int takeCodeRecycling(Table table) throws GameException.OutOfCardsInDeck {
+        synchronized (table) {
+            if (top == 0) {
+                table.recycleInto(this);
+            }
+            return takeCode();
+        }
+    }
+
+    /**
+     * Replaces the (empty) card buffer of this deck with a buffer of discards, without copying.
+     * The new cards are shuffled lazily as they are drawn.
+     *
+     * <p>Called by {@link Table#recycleInto(Deck)}; the caller takes back the old buffer.</p>
+     *
+     * @param buffer a buffer of {@link #CAPACITY} slots whose first {@code count} entries are the discards
+     * @param count  number of discards in the buffer
+     * @return the previous buffer of this deck, now free for reuse
+     * @throws IllegalStateException if the deck is not empty or the buffer has the wrong capacity
+     */
+    public short[] swapInDiscards(short[] buffer, int count) {
+        if (top != 0 || buffer.length != CAPACITY) {
+            // Keep message in Spanish by design
+            throw new IllegalStateException("Solo se pueden reciclar descartes en un mazo vacío.");
+        }
+        short[] previous = cards;
+        cards = buffer;
+        top = count;
+        shufflePending = true;
+        return previous;
+    }
+
+    /**
+     * Deals {@code n} cards from the top of the deck to a player (e.g., a +2/+4 penalty).
+     *
+     * @param player the player receiving the cards
+     * @param n      number of cards to deal
+     * @throws GameException.OutOfCardsInDeck if the deck runs out before {@code n} cards are dealt
+     */
+    @Override
+    public void drawN(IPlayer player, int n) throws GameException.OutOfCardsInDeck {
+        for (int i = 0; i < n; i++) {
+            player.addCode(takeCode());
+        }
+    }
+
+    /**
+     * Reloads the deck from card codes (e.g., recycled discards); they are shuffled lazily.
+     * If the argument is {@code null} or empty, the method does nothing.
+     *
+     * @param codes the codes to push back into the deck
+     * @throws IllegalStateException if the codes do not fit in the deck
+     */
+    public void reloadFrom(short[] codes) {
+        if (codes == null || codes.length == 0) return;
+        if (top + codes.length > CAPACITY) {
+            // Keep message in Spanish by design
+            throw new IllegalStateException("No caben " + codes.length + " cartas en el mazo.");
+        }
+        System.arraycopy(codes, 0, cards, top, codes.length);
+        top += codes.length;
+        shufflePending = true;
+    }
+
+    /**
+     * @return the number of cards left in the deck
+     */
+    @Override
+    public int size() {
+        return top;
+    }
+
+    /**
+     * Replaces the generator used for shuffles (e.g., to make a session reproducible).
+     *
+     * @param random the new generator
+     */
+    public void setRandom(RandomGenerator random) {
+        this.random = random;
+    }
+
+    /**
+     * Shuffles the cards left in the deck in place (Fisher–Yates).
+     */
+    public void shuffle() {
+        RandomGenerator random = random();
+        for (int i = top - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            short tmp = cards[i];
+            cards[i] = cards[j];
+            cards[j] = tmp;
+        }
+        shufflePending = false;
+    }
+
+    /**
+     * Pushes a code on top of the deck.
+     */
+    private void push(int code) {
+        cards[top++] = (short) code;
+    }
+
+    /**
+     * @return the shuffle generator, created on first use after loading a saved game
+     */
+    private RandomGenerator random() {
+        if (random == null) {
+            random = new SplittableRandom();
+        }
+        return random;
+    }
+
+    /**
+     * Indicates whether the deck has no cards left.
+     *
+     * @return {@code true} if there are no cards in the deck; {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return top == 0;
+    }
+
+    /**
+     * Registers an observer to be notified when the deck runs out of cards.
+     *
+     * @param observer the observer to register
+     */
+    public void addObserver(observer observer) {
+        deckEvents().addObserver(observer);
+    }
+
+    /**
+     * Removes an observer previously registered with {@link #addObserver(observer)}.
+     *
+     * @param observer the observer to remove
+     */
+    public void removeObserver(observer observer) {
+        deckEvents().deleteObserver(observer);
+    }
+
+    /**
+     * @return the depletion notifier, created on first use
+     */
+    private synchronized observable deckEvents() {
+        if (deckEvents == null) {
+            deckEvents = new observableClass();
+        }
+        return deckEvents;
+    }
+}
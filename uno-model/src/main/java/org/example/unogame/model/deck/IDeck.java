@@ -0,0 +1,53 @@
+package org.example.unogame.model.deck;
+
+import org.example.unogame.model.card.Card;
+import org.example.unogame.model.exception.GameException;
+import org.example.unogame.model.player.IPlayer;
+
+/**
+ * Interface representing the undealt pile of an Uno game.
+ * Cards are handed out as packed {@link org.example.unogame.model.card.CardCode} values.
+ */
+public interface IDeck {
+
+    /**
+     * Removes a card from the deck and returns its code.
+     *
+     * @return the code of the drawn card
+     * @throws GameException.OutOfCardsInDeck if the deck is empty
+     */
+    int takeCode() throws GameException.OutOfCardsInDeck;
+
+    /**
+     * Removes a card from the deck and returns it.
+     *
+     * @return the drawn {@link Card}
+     * @throws GameException.OutOfCardsInDeck if the deck is empty
+     */
+    default Card takeCard() throws GameException.OutOfCardsInDeck {
+        return Card.of(takeCode());
+    }
+
+    /**
+     * Deals {@code n} cards from the deck to a player (e.g., a +2/+4 penalty).
+     *
+     * @param player the player receiving the cards
+     * @param n      number of cards to deal
+     * @throws GameException.OutOfCardsInDeck if the deck runs out before {@code n} cards are dealt
+     */
+    default void drawN(IPlayer player, int n) throws GameException.OutOfCardsInDeck {
+        for (int i = 0; i < n; i++) {
+            player.addCode(takeCode());
+        }
+    }
+
+    /**
+     * @return the number of cards left in the deck
+     */
+    int size();
+
+    /**
+     * @return {@code true} if there are no cards left in the deck
+     */
+    boolean isEmpty();
+}
@@ -1,11 +1,9 @@
 package org.example.unogame.model.game;
 
 import org.example.unogame.model.card.Card;
+import org.example.unogame.model.card.CardCode;
 import org.example.unogame.model.deck.Deck;
 import org.example.unogame.model.exception.GameException;
-import org.example.unogame.model.machine.ThreadPlayMachine;
-import org.example.unogame.model.machine.ThreadSingUNOMachine;
-import org.example.unogame.model.machine.ThreadWinGame;
 import org.example.unogame.model.player.IPlayer;
 import org.example.unogame.model.player.Player;
 import org.example.unogame.model.table.Table;
@@ -31,9 +29,6 @@ public class GameUno implements IGameUno, Serializable {
     private Table table;
     private Player humanPlayer;
     private Player machinePlayer;
-    private ThreadPlayMachine threadPlayMachine;
-    private ThreadSingUNOMachine threadSingUNOMachine;
-    private ThreadWinGame threadWinGame;
 
 
 
@@ -90,8 +85,7 @@ public class GameUno implements IGameUno, Serializable {
      * @return true if the card value matches a single digit; false otherwise
      */
     private boolean isNumberCard(Card card) {
-        String value = card.getValue();
-        return value != null && value.matches("[0-9]");
+        return CardCode.isNumber(card.getCode());
     }
 
     /**
@@ -104,9 +98,7 @@ public class GameUno implements IGameUno, Serializable {
      */
     @Override
     public void eatCard(Player player, int numberOfCards) throws GameException.OutOfCardsInDeck, GameException.NullCardException {
-        for (int i = 0; i < numberOfCards; i++) {
-            player.addCard(this.deck.takeCard());
-        }
+        this.deck.drawN(player, numberOfCards);
     }
 
     /**
@@ -153,7 +145,7 @@ public class GameUno implements IGameUno, Serializable {
      */
     @Override
     public Card[] getCurrentVisibleCardsHumanPlayer(int posInitCardToShow) throws GameException.InvalidCardIndex {
-        int totalCards = this.humanPlayer.getCardsPlayer().size();
+        int totalCards = this.humanPlayer.getHandSize();
 
         // Nothing to show or the start index is beyond available cards
         if (totalCards == 0 || posInitCardToShow >= totalCards) {
@@ -187,7 +179,7 @@ public class GameUno implements IGameUno, Serializable {
      */
     @Override
     public Card[] getCurrentVisibleCardsMachinePlayer(int posInitCardToShow) throws GameException.InvalidCardIndex {
-        int totalCards = this.machinePlayer.getCardsPlayer().size();
+        int totalCards = this.machinePlayer.getHandSize();
 
         // Nothing to show or the start index is beyond available cards
         if (totalCards == 0 || posInitCardToShow >= totalCards) {
@@ -235,16 +227,4 @@ public class GameUno implements IGameUno, Serializable {
         return machinePlayer;
     }
 
-    public ThreadPlayMachine getThreadPlayMachine() {
-        return threadPlayMachine;
-    }
-
-    public ThreadSingUNOMachine getThreadSingUNOMachine() {
-        return threadSingUNOMachine;
-    }
-
-    public ThreadWinGame getThreadWinGame() {
-        return threadWinGame;
-    }
-
 }
\ No newline at end of file
@@ -1,18 +1,18 @@
 package org.example.unogame.model.machine.observers;
 
-import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
 
 /**
  * Concrete implementation of the {@code observable} interface that manages a set of observers.
  * 
  * <p>This class provides a thread-safe implementation of the Observer pattern's Subject component.
- * It uses a {@link HashSet} to store observers, ensuring that each observer can only be registered
- * once and providing efficient add/remove operations.</p>
+ * It uses a {@link CopyOnWriteArraySet} to store observers, ensuring that each observer can only be
+ * registered once and that notifications fired from worker threads never race with registrations.</p>
  * 
  * <p>Key features of this implementation:</p>
  * <ul>
- *   <li>Uses HashSet for O(1) average time complexity for add/remove operations</li>
+ *   <li>Registrations are rare and notifications frequent, so iteration is lock-free</li>
  *   <li>Prevents duplicate observer registrations</li>
  *   <li>Provides thread-safe notification to all registered observers</li>
  *   <li>Handles null observers gracefully</li>
@@ -31,13 +31,13 @@ import java.util.Set;
 public class observableClass implements observable {
 
     /** Set containing all registered observers */
-    private final Set<observer> observerSet = new HashSet<>();
+    private final Set<observer> observerSet = new CopyOnWriteArraySet<>();
 
     /**
      * Adds an observer to the set of observers.
      * 
-     * <p>If the observer is already registered, this method has no effect due to
-     * the HashSet implementation which prevents duplicates.</p>
+     * <p>If the observer is already registered, this method has no effect because
+     * the underlying set prevents duplicates.</p>
      *
      * @param o the observer to add to the notification list
      * @throws IllegalArgumentException if the observer parameter is null
@@ -53,8 +53,7 @@ public class observableClass implements observable {
     /**
      * Removes an observer from the set of observers.
      * 
-     * <p>If the observer is not currently registered, this method has no effect.
-     * The removal operation is performed using the HashSet's remove method.</p>
+     * <p>If the observer is not currently registered, this method has no effect.</p>
      *
      * @param o the observer to remove from the notification list
      */
@@ -68,7 +67,7 @@ public class observableClass implements observable {
      * 
      * <p>This method iterates through all currently registered observers and calls
      * their {@link observer#update(String)} method with the specified event string.
-     * The notification is performed in the order determined by the HashSet iteration.</p>
+     * The notification is performed in registration order.</p>
      * 
      * <p>If any observer's update method throws an exception, it will not prevent
      * other observers from being notified. However, such exceptions should be handled
@@ -0,0 +1,172 @@
+package org.example.unogame.model.player;
+
+import org.example.unogame.model.card.CardCode;
+import org.example.unogame.model.card.CardIds;
+
+import java.io.Serializable;
+
+/**
+ * Order-free view of a hand: how many copies of each card id it holds, plus a bitset of the
+ * ids present.
+ *
+ * <p>The {@value CardIds#CARD_COUNT} card ids of {@link CardIds} fit in one {@code long}, so
+ * bit {@code id} of {@link #mask()} is set while the hand holds at least one copy of that
+ * card. Intersecting the mask with a legality mask (see
+ * {@link org.example.unogame.model.rules.Playability#legalMask(int, int, boolean)}) answers
+ * "which cards can I play" in one operation, and "can I play at all" is a test against zero.
+ * The per-id counters allow several copies of a card, as in a 108-card deck.</p>
+ *
+ * <h2>Aggregates</h2>
+ * <p>Running totals are updated on every add and remove, so scoring and color choices read
+ * them in O(1): the hand's point value ({@link CardIds#pointsOf(int)}), the number of cards
+ * of each color, of wild cards and of action cards (SKIP, RESERVE, +2).</p>
+ *
+ * <h2>Thread-safety</h2>
+ * <p>This class is <em>not</em> thread-safe; it is owned by a single hand.</p>
+ */
+public class HandMask implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /** Copies of each card in the hand, indexed by card id. */
+    private final byte[] counts;
+
+    /** Bit {@code id} is set while {@code counts[id] > 0}. */
+    private long mask;
+
+    /** Total number of cards. */
+    private int size;
+
+    /** Sum of the cards' point values. */
+    private int points;
+
+    /** Number of cards of each printed color, indexed by color index ({@code BLACK} counts wilds). */
+    private final int[] colorCounts;
+
+    /** Number of SKIP, RESERVE and +2 cards. */
+    private int actionCount;
+
+    /**
+     * Creates an empty hand mask.
+     */
+    public HandMask() {
+        this.counts = new byte[CardIds.CARD_COUNT];
+        this.colorCounts = new int[CardIds.COLORS.length];
+    }
+
+    /**
+     * Copy constructor.
+     */
+    private HandMask(HandMask other) {
+        this.counts = other.counts.clone();
+        this.mask = other.mask;
+        this.size = other.size;
+        this.points = other.points;
+        this.colorCounts = other.colorCounts.clone();
+        this.actionCount = other.actionCount;
+    }
+
+    /**
+     * Adds one copy of a card.
+     *
+     * @param code the packed code of the card
+     */
+    public void add(int code) {
+        int id = CardCode.toId(code);
+        counts[id]++;
+        mask |= 1L << id;
+        size++;
+        track(id, 1);
+    }
+
+    /**
+     * Removes one copy of a card.
+     *
+     * @param code the packed code of the card
+     * @return {@code true} if the hand held the card and one copy was removed
+     */
+    public boolean remove(int code) {
+        int id = CardCode.toId(code);
+        if (counts[id] == 0) {
+            return false;
+        }
+        if (--counts[id] == 0) {
+            mask &= ~(1L << id);
+        }
+        size--;
+        track(id, -1);
+        return true;
+    }
+
+    /**
+     * Applies a card's contribution to the running totals.
+     *
+     * @param id    the card id
+     * @param delta {@code 1} when the card is added, {@code -1} when it is removed
+     */
+    private void track(int id, int delta) {
+        points += delta * CardIds.pointsOf(id);
+        colorCounts[CardIds.colorOf(id)] += delta;
+        int rank = CardIds.rankOf(id);
+        if (rank > CardIds.MAX_NUMBER_RANK && rank < CardIds.WILD_RANK) {
+            actionCount += delta;
+        }
+    }
+
+    /**
+     * @return the bitset of card ids held at least once
+     */
+    public long mask() {
+        return mask;
+    }
+
+    /**
+     * @param id a card id
+     * @return the number of copies of that card in the hand
+     */
+    public int count(int id) {
+        return counts[id];
+    }
+
+    /**
+     * @return the total number of cards
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the sum of the cards' point values
+     */
+    public int points() {
+        return points;
+    }
+
+    /**
+     * @param color a color index from {@link CardIds}
+     * @return the number of cards of that printed color
+     */
+    public int colorCount(int color) {
+        return colorCounts[color];
+    }
+
+    /**
+     * @return the number of WILD and +4 cards
+     */
+    public int wildCount() {
+        return colorCounts[CardIds.BLACK];
+    }
+
+    /**
+     * @return the number of SKIP, RESERVE and +2 cards
+     */
+    public int actionCount() {
+        return actionCount;
+    }
+
+    /**
+     * @return an independent copy, e.g., for a simulated game state
+     */
+    public HandMask copy() {
+        return new HandMask(this);
+    }
+}
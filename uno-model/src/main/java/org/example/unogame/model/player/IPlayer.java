@@ -20,6 +20,13 @@ public interface IPlayer extends Serializable {
      */
     void addCard(Card card) throws GameException.NullCardException;
 
+    /**
+     * Adds a card to the player's hand by its code.
+     *
+     * @param code The packed code of the card to add.
+     */
+    void addCode(int code);
+
     /**
      * Retrieves a card from the player's hand based on its index.
      *
@@ -36,6 +43,36 @@ public interface IPlayer extends Serializable {
      */
     ArrayList<Card> getCardsPlayer();
 
+    /**
+     * Retrieves the number of cards in the player's hand.
+     *
+     * @return The size of the player's hand.
+     */
+    int getHandSize();
+
+    /**
+     * Retrieves the set of distinct cards in the player's hand as a bitset.
+     *
+     * @return A mask with bit {@code id} set for every card id in the hand.
+     */
+    long getCardMask();
+
+    /**
+     * Retrieves the order-free view of the player's hand and its running totals.
+     *
+     * @return The hand's {@link HandMask}; callers must not modify it.
+     */
+    HandMask getHandMask();
+
+    /**
+     * Retrieves the code of a card in the player's hand based on its index.
+     *
+     * @param index The index of the card.
+     * @return The packed code of the card at the specified index.
+     * @throws GameException.InvalidCardIndex if the index is invalid.
+     */
+    int getCode(int index) throws GameException.InvalidCardIndex;
+
     /**
      * Removes a card from the player's hand based on its index.
      *
@@ -0,0 +1,228 @@
+package org.example.unogame.model.player;
+
+import org.example.unogame.model.card.Card;
+import org.example.unogame.model.card.CardCode;
+import org.example.unogame.model.exception.GameException;
+import org.example.unogame.model.machine.observers.observable;
+import org.example.unogame.model.machine.observers.observableClass;
+import org.example.unogame.model.machine.observers.observer;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Represents a player participating in the Uno game.
+ *
+ * <p>This class stores the player's hand and a simple type label (e.g., "HUMAN_PLAYER",
+ * "MACHINE_PLAYER"). It provides basic operations to add, remove, and retrieve cards.
+ * The hand is kept as packed {@link CardCode} values; {@link Card} wrappers are produced
+ * on demand for the view. A {@link HandMask} of the same cards is kept in step, so rule
+ * queries can work on the whole hand at once ({@link #getCardMask()}).</p>
+ *
+ * <h2>Events</h2>
+ * <p>Every change to the hand notifies registered observers with {@code "HAND_SIZE_CHANGED"},
+ * so end-of-game checks can react to the change instead of polling the hand. When a removal
+ * leaves exactly one card, {@code "ONE_CARD_LEFT"} is notified right after it so the UNO
+ * window opens at the moment of the transition.</p>
+ *
+ * <h2>Thread-safety</h2>
+ * <p>This class is <em>not</em> thread-safe. If accessed from multiple threads,
+ * callers must apply external synchronization.</p>
+ */
+public class Player implements IPlayer, Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /** Initial capacity of the hand. */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** Codes of the player's current hand; only the first {@code size} entries are used. */
+    private short[] cardsPlayer;
+
+    /** Number of cards in the hand. */
+    private int size;
+
+    /** Order-free copy of the hand, indexed by card id. */
+    private HandMask handMask;
+
+    /** A descriptive label for this player (e.g., human vs. machine). */
+    private String typePlayer;
+
+    /** Observers of hand changes; not persisted, recreated lazily after loading a saved game. */
+    private transient observable handEvents;
+
+    /**
+     * Creates a player with an empty hand and the given type label.
+     *
+     * @param typePlayer a descriptive identifier for the player (e.g., "HUMAN_PLAYER")
+     */
+    public Player(String typePlayer){
+        this.cardsPlayer = new short[INITIAL_CAPACITY];
+        this.handMask = new HandMask();
+        this.typePlayer = typePlayer;
+    }
+
+    /**
+     * Adds a card to the player's hand.
+     *
+     * @param card the card to add
+     * @throws GameException.NullCardException if {@code card} is {@code null}
+     */
+    @Override
+    public void addCard(Card card) throws GameException.NullCardException {
+        if (card == null) {
+            throw new GameException.NullCardException();
+        }
+        addCode(card.getCode());
+    }
+
+    /**
+     * Adds a card to the player's hand.
+     *
+     * @param code the code of the card to add
+     */
+    @Override
+    public void addCode(int code) {
+        if (size == cardsPlayer.length) {
+            cardsPlayer = Arrays.copyOf(cardsPlayer, size * 2);
+        }
+        cardsPlayer[size++] = (short) code;
+        handMask.add(code);
+        handEvents().notification("HAND_SIZE_CHANGED");
+    }
+
+    /**
+     * Returns the list of cards currently held by the player.
+     *
+     * <p><strong>Note:</strong> This returns a snapshot; modifying the returned list does not
+     * affect the player's hand. Use {@link #getHandSize()} or {@link #getCode(int)} when only
+     * the size or the codes are needed.</p>
+     *
+     * @return the player's hand as an {@link ArrayList}
+     */
+    @Override
+    public ArrayList<Card> getCardsPlayer() {
+        ArrayList<Card> cards = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            cards.add(Card.of(cardsPlayer[i]));
+        }
+        return cards;
+    }
+
+    /**
+     * @return the number of cards in the hand
+     */
+    @Override
+    public int getHandSize() {
+        return size;
+    }
+
+    /**
+     * @return the bitset of card ids in the hand (bit {@code id} set while the hand holds that card)
+     */
+    @Override
+    public long getCardMask() {
+        return handMask.mask();
+    }
+
+    /**
+     * @return the point value of the hand (see {@link HandMask#points()})
+     */
+    public int getPoints() {
+        return handMask.points();
+    }
+
+    /**
+     * @return the order-free view of the hand and its running totals, kept in step with it;
+     *         callers must not modify it
+     */
+    @Override
+    public HandMask getHandMask() {
+        return handMask;
+    }
+
+    /**
+     * Retrieves the code of the card at the specified index.
+     *
+     * @param index the zero-based index of the card
+     * @return the packed code of the card
+     * @throws GameException.InvalidCardIndex if {@code index} is out of bounds
+     */
+    @Override
+    public int getCode(int index) throws GameException.InvalidCardIndex {
+        if (index < 0 || index >= size) {
+            throw new GameException.InvalidCardIndex(index);
+        }
+        return cardsPlayer[index];
+    }
+
+    /**
+     * Removes the card at the specified index from the player's hand.
+     *
+     * @param index the zero-based index of the card to remove
+     * @throws GameException.InvalidCardIndex if {@code index} is out of bounds
+     */
+    @Override
+    public void removeCard(int index) throws GameException.InvalidCardIndex {
+        if (index < 0 || index >= size) {
+            throw new GameException.InvalidCardIndex(index);
+        }
+        handMask.remove(cardsPlayer[index]);
+        System.arraycopy(cardsPlayer, index + 1, cardsPlayer, index, size - index - 1);
+        size--;
+        handEvents().notification("HAND_SIZE_CHANGED");
+        if (size == 1) {
+            handEvents().notification("ONE_CARD_LEFT");
+        }
+    }
+
+    /**
+     * Retrieves the card at the specified index from the player's hand.
+     *
+     * @param index the zero-based index of the card to retrieve
+     * @return the card at the requested position
+     * @throws GameException.InvalidCardIndex if {@code index} is out of bounds
+     */
+    @Override
+    public Card getCard(int index) throws GameException.InvalidCardIndex {
+        return Card.of(getCode(index));
+    }
+
+    /**
+     * Returns the player type label.
+     *
+     * @return a descriptive string identifying the kind of player
+     */
+    public String getTypePlayer() {
+        return typePlayer;
+    }
+
+    /**
+     * Registers an observer to be notified whenever this player's hand changes size
+     * or drops to a single card.
+     *
+     * @param observer the observer to register
+     */
+    public void addObserver(observer observer) {
+        handEvents().addObserver(observer);
+    }
+
+    /**
+     * Removes an observer previously registered with {@link #addObserver(observer)}.
+     *
+     * @param observer the observer to remove
+     */
+    public void removeObserver(observer observer) {
+        handEvents().deleteObserver(observer);
+    }
+
+    /**
+     * @return the hand-change notifier, created on first use
+     */
+    private synchronized observable handEvents() {
+        if (handEvents == null) {
+            handEvents = new observableClass();
+        }
+        return handEvents;
+    }
+}
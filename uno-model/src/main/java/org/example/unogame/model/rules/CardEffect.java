@@ -0,0 +1,65 @@
+package org.example.unogame.model.rules;
+
+/**
+ * Effect a card has on the game once it is placed on the table.
+ *
+ * <p>Each constant describes how many cards the opponent must draw, whether the player who
+ * played the card keeps the turn, and whether a color must be declared.</p>
+ */
+public enum CardEffect {
+    /** Numeric card: no extra effect, the turn passes to the opponent. */
+    NONE(0, false, false),
+    /** Wild: the player declares a color, then the turn passes to the opponent. */
+    WILD(0, false, true),
+    /** +2: the opponent draws two cards and the player keeps the turn. */
+    DRAW_TWO(2, true, false),
+    /** +4: the opponent draws four cards, the player declares a color and keeps the turn. */
+    DRAW_FOUR(4, true, true),
+    /** Skip: the opponent loses the turn. */
+    SKIP(0, true, false),
+    /** Reverse: with two players it behaves like a skip. */
+    RESERVE(0, true, false);
+
+    /** Number of cards the opponent must draw. */
+    private final int drawPenalty;
+
+    /** Whether the player who played the card plays again. */
+    private final boolean keepsTurn;
+
+    /** Whether the player must declare a color after playing the card. */
+    private final boolean needsColor;
+
+    CardEffect(int drawPenalty, boolean keepsTurn, boolean needsColor) {
+        this.drawPenalty = drawPenalty;
+        this.keepsTurn = keepsTurn;
+        this.needsColor = needsColor;
+    }
+
+    /**
+     * @return the number of cards the opponent must draw
+     */
+    public int getDrawPenalty() {
+        return drawPenalty;
+    }
+
+    /**
+     * @return {@code true} if the player who played the card plays again
+     */
+    public boolean keepsTurn() {
+        return keepsTurn;
+    }
+
+    /**
+     * @return {@code true} if a color must be declared after playing the card
+     */
+    public boolean needsColor() {
+        return needsColor;
+    }
+
+    /**
+     * @return {@code true} for every effect other than {@link #NONE}
+     */
+    public boolean isSpecial() {
+        return this != NONE;
+    }
+}
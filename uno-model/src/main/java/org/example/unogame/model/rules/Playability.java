@@ -0,0 +1,106 @@
+package org.example.unogame.model.rules;
+
+import org.example.unogame.model.card.CardIds;
+
+/**
+ * Precomputed legality table for every card against every table state.
+ *
+ * <p>The table is indexed by card id, top card id, effective top color (the declared color for
+ * wilds) and whether a color selection is still pending, all from {@link CardIds}. It holds
+ * {@code 54 × 54 × 5 × 2} flags, built once at class load, so a legality query is a single
+ * array load instead of string comparisons.</p>
+ *
+ * <p>The same flags are also folded into one {@code long} per table state, with bit {@code id}
+ * set for every legal card id ({@link #legalMask(int, int, boolean)}), so a whole hand can
+ * be checked with a single intersection against its
+ * {@link org.example.unogame.model.player.HandMask}.</p>
+ *
+ * <p>The flags follow the rules documented on {@link RulesEngine}; while a color selection is
+ * pending no card can be played.</p>
+ */
+public final class Playability {
+
+    /** Number of effective top colors, {@code BLACK} included. */
+    private static final int COLORS = CardIds.COLORS.length;
+
+    /** Flattened legality flags. */
+    private static final boolean[] LEGAL = new boolean[CardIds.CARD_COUNT * CardIds.CARD_COUNT * COLORS * 2];
+
+    /** Legal card ids for each top card and color, as bitsets; nothing is legal while a color is pending. */
+    private static final long[] LEGAL_MASKS = new long[CardIds.CARD_COUNT * COLORS];
+
+    static {
+        for (int card = 0; card < CardIds.CARD_COUNT; card++) {
+            for (int top = 0; top < CardIds.CARD_COUNT; top++) {
+                for (int color = 0; color < COLORS; color++) {
+                    boolean legal = compute(card, top, color);
+                    LEGAL[index(card, top, color, false)] = legal;
+                    // index(card, top, color, true) stays false: nothing is legal while a color is pending
+                    if (legal) {
+                        LEGAL_MASKS[top * COLORS + color] |= 1L << card;
+                    }
+                }
+            }
+        }
+    }
+
+    private Playability() {}
+
+    /**
+     * Checks whether a card can be played over the current top card.
+     *
+     * @param cardId   id of the card to play
+     * @param topId    id of the current top card
+     * @param topColor effective color index of the top card
+     * @param pending  {@code true} if a wild color has not been declared yet
+     * @return {@code true} if the move is legal
+     */
+    public static boolean isLegal(int cardId, int topId, int topColor, boolean pending) {
+        return LEGAL[index(cardId, topId, topColor, pending)];
+    }
+
+    /**
+     * Checks whether a card can be played over the current top card, with no color pending.
+     *
+     * @param cardId   id of the card to play
+     * @param topId    id of the current top card
+     * @param topColor effective color index of the top card
+     * @return {@code true} if the move is legal
+     */
+    public static boolean isLegal(int cardId, int topId, int topColor) {
+        return LEGAL[index(cardId, topId, topColor, false)];
+    }
+
+    /**
+     * Returns every card id that can be played over the current top card, as a bitset.
+     *
+     * @param topId    id of the current top card
+     * @param topColor effective color index of the top card
+     * @param pending  {@code true} if a wild color has not been declared yet
+     * @return a mask with bit {@code id} set for every legal card id
+     */
+    public static long legalMask(int topId, int topColor, boolean pending) {
+        return pending ? 0L : LEGAL_MASKS[topId * COLORS + topColor];
+    }
+
+    private static int index(int card, int top, int color, boolean pending) {
+        return ((card * CardIds.CARD_COUNT + top) * COLORS + color) * 2 + (pending ? 1 : 0);
+    }
+
+    /**
+     * Reference rule evaluation used to fill the table.
+     */
+    private static boolean compute(int card, int top, int topColor) {
+        int rank = CardIds.rankOf(card);
+        // Wild and +4 are always playable
+        if (rank == CardIds.WILD_RANK || rank == CardIds.DRAW_FOUR_RANK) {
+            return true;
+        }
+        // After a +4, the same player may play any card
+        if (CardIds.rankOf(top) == CardIds.DRAW_FOUR_RANK) {
+            return true;
+        }
+        // Match by color, then by value
+        return CardIds.colorOf(card) == topColor || rank == CardIds.rankOf(top);
+    }
+}
@@ -0,0 +1,221 @@
+package org.example.unogame.model.rules;
+
+import org.example.unogame.model.card.Card;
+import org.example.unogame.model.card.CardCode;
+import org.example.unogame.model.card.CardIds;
+import org.example.unogame.model.exception.GameException;
+import org.example.unogame.model.player.IPlayer;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Headless Uno rules: move legality, legal-move generation and special-card effects.
+ *
+ * <p>The engine is a pure function of the cards it is given. It has no JavaFX or
+ * controller dependency and never triggers rendering, so both the UI and the machine
+ * player can query it as often as they need.</p>
+ *
+ * <h2>Rules</h2>
+ * <ul>
+ *   <li>WILD and +4 can always be played.</li>
+ *   <li>After a +4, the same player may play any card.</li>
+ *   <li>Otherwise a card must match the top card's current color (the declared color
+ *       for wilds) or its value.</li>
+ * </ul>
+ *
+ * <p>Legality is answered from the precomputed {@link Playability} table using the
+ * cards' {@link CardIds} ids. Whole-hand queries ({@link #legalMask(IPlayer, int, int, boolean)},
+ * {@link #hasLegalMove(IPlayer, int, int, boolean)}) intersect the hand's card bitset with a
+ * legality mask instead of checking card by card.</p>
+ *
+ * <h2>Thread-safety</h2>
+ * <p>Stateless and therefore thread-safe; a single instance can be shared.</p>
+ */
+public class RulesEngine implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /** Effect of each rank, indexed by {@link CardIds} rank index. */
+    private static final CardEffect[] EFFECTS = new CardEffect[CardIds.RANKS.length];
+
+    static {
+        for (int rank = 0; rank < EFFECTS.length; rank++) {
+            EFFECTS[rank] = effectOfValue(CardIds.RANKS[rank]);
+        }
+    }
+
+    /**
+     * Determines if a card can be legally placed over the current top card, taking the top
+     * card's printed color (use {@link #canPlay(int, int, int, boolean)} when a wild color
+     * has been declared on the table).
+     *
+     * @param card    the card the player wants to play
+     * @param topCard the current top card on the table
+     * @return {@code true} if the move is valid; {@code false} otherwise
+     */
+    public boolean canPlay(Card card, Card topCard) {
+        return canPlay(card.getCode(), topCard.getCode(), CardCode.colorOf(topCard.getCode()), false);
+    }
+
+    /**
+     * Determines if a card code can be legally placed over the current top card, answered by a
+     * single lookup in the precomputed {@link Playability} table.
+     *
+     * @param code         code of the card the player wants to play
+     * @param topCode      code of the current top card
+     * @param topColor     effective color index of the top card (the declared color for wilds)
+     * @param colorPending {@code true} while a wild color has not been declared yet
+     * @return {@code true} if the move is valid; {@code false} otherwise
+     */
+    public boolean canPlay(int code, int topCode, int topColor, boolean colorPending) {
+        return Playability.isLegal(CardCode.toId(code), CardCode.toId(topCode), topColor, colorPending);
+    }
+
+    /**
+     * Returns the positions of every card in the hand that can be played over the top card.
+     *
+     * @param hand     the player's hand
+     * @param topCard  the current top card on the table
+     * @param topColor effective color index of the top card (the declared color for wilds)
+     * @return the indices of the legal cards, in hand order (empty if the player must draw)
+     */
+    public List<Integer> legalMoves(List<Card> hand, Card topCard, int topColor) {
+        List<Integer> moves = new ArrayList<>();
+        int topId = topCard.getId();
+        for (int i = 0; i < hand.size(); i++) {
+            if (Playability.isLegal(hand.get(i).getId(), topId, topColor)) {
+                moves.add(i);
+            }
+        }
+        return moves;
+    }
+
+    /**
+     * Returns the position of the first card in the hand that can be played over the top card.
+     *
+     * @param hand     the player's hand
+     * @param topCard  the current top card on the table
+     * @param topColor effective color index of the top card (the declared color for wilds)
+     * @return the index of the first legal card, or {@code -1} if the player must draw
+     */
+    public int firstLegalMove(List<Card> hand, Card topCard, int topColor) {
+        int topId = topCard.getId();
+        for (int i = 0; i < hand.size(); i++) {
+            if (Playability.isLegal(hand.get(i).getId(), topId, topColor)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the position of the first card in a player's hand that can be played over the
+     * top card, reading the hand's codes without creating card wrappers. A hand with no legal
+     * card is detected from its card bitset without scanning it.
+     *
+     * @param player   the player whose hand is scanned
+     * @param topCode  code of the current top card
+     * @param topColor effective color index of the top card (the declared color for wilds)
+     * @return the index of the first legal card, or {@code -1} if the player must draw
+     * @throws GameException.InvalidCardIndex never thrown for indices within the hand size
+     */
+    public int firstLegalMove(IPlayer player, int topCode, int topColor) throws GameException.InvalidCardIndex {
+        long legal = legalMask(player, topCode, topColor, false);
+        if (legal == 0L) {
+            return -1;
+        }
+        for (int i = 0; i < player.getHandSize(); i++) {
+            if ((legal & (1L << CardCode.toId(player.getCode(i)))) != 0L) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns every distinct card of a player's hand that can be played over the top card.
+     *
+     * @param player       the player whose hand is checked
+     * @param topCode      code of the current top card
+     * @param topColor     effective color index of the top card (the declared color for wilds)
+     * @param colorPending {@code true} while a wild color has not been declared yet
+     * @return a mask with bit {@code id} set for every legal card id in the hand
+     */
+    public long legalMask(IPlayer player, int topCode, int topColor, boolean colorPending) {
+        return player.getCardMask() & Playability.legalMask(CardCode.toId(topCode), topColor, colorPending);
+    }
+
+    /**
+     * Checks whether a player has at least one legal move.
+     *
+     * @param player       the player whose hand is checked
+     * @param topCode      code of the current top card
+     * @param topColor     effective color index of the top card (the declared color for wilds)
+     * @param colorPending {@code true} while a wild color has not been declared yet
+     * @return {@code true} if some card in the hand can be played; {@code false} if the player must draw
+     */
+    public boolean hasLegalMove(IPlayer player, int topCode, int topColor, boolean colorPending) {
+        return legalMask(player, topCode, topColor, colorPending) != 0L;
+    }
+
+    /**
+     * Returns the effect of a card once played.
+     *
+     * @param card the played card
+     * @return the card's effect; {@link CardEffect#NONE} for numeric cards
+     */
+    public CardEffect effectOf(Card card) {
+        return effectOf(card.getCode());
+    }
+
+    /**
+     * Returns the effect of a card code once played.
+     *
+     * @param code the played card's code
+     * @return the card's effect; {@link CardEffect#NONE} for numeric cards
+     */
+    public CardEffect effectOf(int code) {
+        return EFFECTS[CardCode.rankOf(code)];
+    }
+
+    /**
+     * Returns the effect associated with a card face value.
+     *
+     * @param value the card face value (e.g., "7", "SKIP", "+2", "+4", "WILD")
+     * @return the value's effect; {@link CardEffect#NONE} for numeric or unknown values
+     */
+    public CardEffect effectOf(String value) {
+        return effectOfValue(value);
+    }
+
+    private static CardEffect effectOfValue(String value) {
+        if (value == null) {
+            return CardEffect.NONE;
+        }
+        switch (value) {
+            case "WILD":
+                return CardEffect.WILD;
+            case "+2":
+                return CardEffect.DRAW_TWO;
+            case "+4":
+                return CardEffect.DRAW_FOUR;
+            case "SKIP":
+                return CardEffect.SKIP;
+            case "RESERVE":
+                return CardEffect.RESERVE;
+            default:
+                return CardEffect.NONE;
+        }
+    }
+
+    /**
+     * Indicates whether the provided value corresponds to a special card.
+     *
+     * @param value the card face value
+     * @return {@code true} if the value matches a special card; {@code false} otherwise
+     */
+    public boolean isSpecial(String value) {
+        return effectOf(value).isSpecial();
+    }
+}
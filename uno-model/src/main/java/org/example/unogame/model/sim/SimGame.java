@@ -0,0 +1,645 @@
+package org.example.unogame.model.sim;
+
+import org.example.unogame.model.ai.ColorChooser;
+import org.example.unogame.model.card.CardCode;
+import org.example.unogame.model.card.CardIds;
+import org.example.unogame.model.deck.CountDeck;
+import org.example.unogame.model.rules.CardEffect;
+import org.example.unogame.model.rules.Playability;
+import org.example.unogame.model.rules.RulesEngine;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Primitive two-player Uno game for playouts: the simulation core of the search strategies.
+ *
+ * <p>The whole state is a handful of primitive arrays: each hand as a card-id bitset plus
+ * per-id counts, running hand sizes, points and color counts, the undealt pile as a
+ * {@link CountDeck}, the top card and its effective color, and the player to move. {@link #apply(int)},
+ * {@link #step()} and {@link #rollout()} never allocate, and
+ * {@link #copyFrom(SimGame)} resets a game to another one's state in place, so a search can
+ * reuse one instance for millions of playouts.</p>
+ *
+ * <h2>Rules</h2>
+ * <p>Moves follow the interactive game ({@code GameUnoController.specialCard}) and the
+ * legality table of {@link Playability}:</p>
+ * <ul>
+ *   <li>Number cards pass the turn.</li>
+ *   <li>WILD declares a color and passes the turn.</li>
+ *   <li>+2 and +4 make the opponent draw 2 or 4 and keep the turn; +4 also declares a color.</li>
+ *   <li>SKIP and RESERVE keep the turn.</li>
+ *   <li>A player without a legal card draws one and passes.</li>
+ * </ul>
+ * <p>The game ends when a hand is empty, or as soon as the deck runs out; then the lower hand
+ * score wins and a tie goes to the human, as in {@code ThreadWinGame}. UNO calls are not
+ * simulated.</p>
+ *
+ * <h2>Moves</h2>
+ * <p>Moves are ints: a colored card id, {@link #WILD_MOVE} or {@link #DRAW_FOUR_MOVE} plus the
+ * declared color index, or {@link #DRAW}. Random moves declare wild colors through the
+ * game's {@link ColorChooser} if one is set, or name the color held most otherwise.</p>
+ *
+ * <h2>Exact search</h2>
+ * <p>With {@link #setDeferDraws(boolean) deferred draws}, a move that makes a player draw does
+ * not sample the cards: the game waits in a chance state until each card is chosen with
+ * {@link #resolveDraw(int)}, so a solver can enumerate the outcomes. {@link #hash()} is a
+ * Zobrist hash of the full state, kept up to date on every card movement.</p>
+ *
+ * <h2>Thread-safety</h2>
+ * <p>Not thread-safe; each search worker owns its games and their generator.</p>
+ */
+public final class SimGame {
+
+    /** Player index of the machine. */
+    public static final int MACHINE = 0;
+
+    /** Player index of the human. */
+    public static final int HUMAN = 1;
+
+    /** First move of a WILD, one per declared color. */
+    public static final int WILD_MOVE = CardIds.WILD_ID;
+
+    /** First move of a +4, one per declared color. */
+    public static final int DRAW_FOUR_MOVE = WILD_MOVE + CardIds.PLAYABLE_COLORS;
+
+    /** Drawing a card because no card can be played. */
+    public static final int DRAW = DRAW_FOUR_MOVE + CardIds.PLAYABLE_COLORS;
+
+    /** Number of distinct moves. */
+    public static final int MOVE_COUNT = DRAW + 1;
+
+    /** Cards dealt to each player when a game starts, as in {@code GameUno.startGame}. */
+    public static final int OPENING_HAND = 5;
+
+    /** Number of color counters per player, {@code BLACK} included. */
+    private static final int COLORS = CardIds.COLORS.length;
+
+    /** Copies of one card a place can hold before Zobrist keys repeat; a power of two. */
+    private static final int MAX_COPIES = 8;
+
+    /** Zobrist key of the n-th copy of a card in a place, at {@code (place * CARD_COUNT + id) * MAX_COPIES + n}; places are the two hands and the deck. */
+    private static final long[] CARD_KEYS = new long[3 * CardIds.CARD_COUNT * MAX_COPIES];
+
+    /** Zobrist key of the top card and its effective color, at {@code id * COLORS + color}. */
+    private static final long[] TOP_KEYS = new long[CardIds.CARD_COUNT * COLORS];
+
+    /** Zobrist key of the pending draws, at {@code player * 5 + draws}. */
+    private static final long[] PENDING_KEYS = new long[2 * 5];
+
+    /** Zobrist key of the human to move. */
+    private static final long HUMAN_KEY;
+
+    /** Place index of the undealt pile in {@link #CARD_KEYS}. */
+    private static final int DECK_PLACE = 2;
+
+    /** Effect of each card, indexed by card id. */
+    private static final CardEffect[] EFFECTS = new CardEffect[CardIds.CARD_COUNT];
+
+    /** Points, color and rank of each card, indexed by card id. */
+    private static final int[] POINTS = new int[CardIds.CARD_COUNT];
+    private static final int[] COLOR = new int[CardIds.CARD_COUNT];
+    private static final int[] RANK = new int[CardIds.CARD_COUNT];
+
+    static {
+        RulesEngine rules = new RulesEngine();
+        for (int id = 0; id < CardIds.CARD_COUNT; id++) {
+            EFFECTS[id] = rules.effectOf(CardCode.fromId(id));
+            POINTS[id] = CardIds.pointsOf(id);
+            COLOR[id] = CardIds.colorOf(id);
+            RANK[id] = CardIds.rankOf(id);
+        }
+        // Fixed seed: hashes are stable across runs
+        SplittableRandom keys = new SplittableRandom(0x5EED_CA4DL);
+        for (int i = 0; i < CARD_KEYS.length; i++) {
+            CARD_KEYS[i] = keys.nextLong();
+        }
+        for (int i = 0; i < TOP_KEYS.length; i++) {
+            TOP_KEYS[i] = keys.nextLong();
+        }
+        for (int i = 0; i < PENDING_KEYS.length; i++) {
+            PENDING_KEYS[i] = keys.nextLong();
+        }
+        HUMAN_KEY = keys.nextLong();
+    }
+
+    /** Card ids held by each player, as bitsets. */
+    private final long[] masks = new long[2];
+
+    /** Copies of each card held, at {@code player * CARD_COUNT + id}. */
+    private final byte[] counts = new byte[2 * CardIds.CARD_COUNT];
+
+    /** Cards of each color held, at {@code player * COLORS + color}. */
+    private final int[] colors = new int[2 * COLORS];
+
+    /** Number of cards held by each player. */
+    private final int[] sizes = new int[2];
+
+    /** Point value of each hand. */
+    private final int[] points = new int[2];
+
+    /** Copies of each card left in the undealt pile. */
+    private final CountDeck deck;
+
+    /** Colored cards played on the table, per playable color. */
+    private final int[] played = new int[CardIds.PLAYABLE_COLORS];
+
+    /** Id of the top card. */
+    private int topId;
+
+    /** Effective color of the top card. */
+    private int topColor;
+
+    /** Player to move. */
+    private int toMove;
+
+    /** Winning player once the game is over, {@code -1} before. */
+    private int winner = -1;
+
+    /** Moves applied since the game was set up. */
+    private int turns;
+
+    /** Zobrist hash of where every card copy is (both hands and the deck). */
+    private long cardsHash;
+
+    /** Whether draws wait for {@link #resolveDraw(int)} instead of being sampled. */
+    private boolean deferDraws;
+
+    /** Cards still to be drawn in a chance state. */
+    private int pendingDraws;
+
+    /** Player receiving the pending draws. */
+    private int drawer;
+
+    /** Chooses wild colors for random moves; {@code null} names the color held most. */
+    private ColorChooser colorChooser;
+
+    /** Generator for draws and random moves. */
+    private final RandomGenerator random;
+
+    /**
+     * Creates an empty game.
+     *
+     * @param random generator for draws and random moves, owned by this game
+     */
+    public SimGame(RandomGenerator random) {
+        this.random = random;
+        this.deck = new CountDeck(new byte[CardIds.CARD_COUNT], random);
+    }
+
+    /**
+     * Resets this game to the state of another one, without allocating. The generator of
+     * this game is kept.
+     *
+     * @param other the game to copy
+     */
+    public void copyFrom(SimGame other) {
+        System.arraycopy(other.masks, 0, masks, 0, masks.length);
+        System.arraycopy(other.counts, 0, counts, 0, counts.length);
+        System.arraycopy(other.colors, 0, colors, 0, colors.length);
+        System.arraycopy(other.sizes, 0, sizes, 0, sizes.length);
+        System.arraycopy(other.points, 0, points, 0, points.length);
+        deck.copyFrom(other.deck);
+        System.arraycopy(other.played, 0, played, 0, played.length);
+        topId = other.topId;
+        topColor = other.topColor;
+        toMove = other.toMove;
+        winner = other.winner;
+        turns = other.turns;
+        cardsHash = other.cardsHash;
+        deferDraws = other.deferDraws;
+        pendingDraws = other.pendingDraws;
+        drawer = other.drawer;
+        colorChooser = other.colorChooser;
+    }
+
+    /**
+     * Empties both hands and the deck and clears the result.
+     */
+    public void clear() {
+        masks[0] = masks[1] = 0L;
+        Arrays.fill(counts, (byte) 0);
+        Arrays.fill(colors, 0);
+        sizes[0] = sizes[1] = 0;
+        points[0] = points[1] = 0;
+        deck.clear();
+        Arrays.fill(played, 0);
+        winner = -1;
+        turns = 0;
+        cardsHash = 0L;
+        pendingDraws = 0;
+    }
+
+    /**
+     * Starts a new random game like {@code GameUno.startGame}: one copy of every card, five
+     * cards to each player, a number card on the table and the human to move.
+     */
+    public void deal() {
+        deal(CountDeck.singleComposition());
+    }
+
+    /**
+     * Starts a new random game from the given deck composition, e.g.,
+     * {@link CountDeck#standardComposition()} for the 108-card deck; otherwise like {@link #deal()}.
+     *
+     * @param composition copies of each card, indexed by card id; with more than eight copies
+     *                    of a card, {@link #hash()} may collide
+     */
+    public void deal(byte[] composition) {
+        clear();
+        for (int id = 0; id < CardIds.CARD_COUNT; id++) {
+            for (int copy = 0; copy < composition[id]; copy++) {
+                addToDeck(id);
+            }
+        }
+        for (int i = 0; i < OPENING_HAND; i++) {
+            addToHand(HUMAN, drawId());
+        }
+        for (int i = 0; i < OPENING_HAND; i++) {
+            addToHand(MACHINE, drawId());
+        }
+        int top;
+        do {
+            top = drawId();
+        } while (RANK[top] > CardIds.MAX_NUMBER_RANK);
+        setTop(top, COLOR[top]);
+        toMove = HUMAN;
+    }
+
+    /**
+     * Puts one copy of a card in a player's hand.
+     *
+     * @param player the player
+     * @param id     the card id
+     */
+    public void addToHand(int player, int id) {
+        int copies = counts[player * CardIds.CARD_COUNT + id]++;
+        cardsHash ^= cardKey(player, id, copies);
+        masks[player] |= 1L << id;
+        colors[player * COLORS + COLOR[id]]++;
+        sizes[player]++;
+        points[player] += POINTS[id];
+    }
+
+    /**
+     * Puts one copy of a card in the undealt pile.
+     *
+     * @param id the card id
+     */
+    public void addToDeck(int id) {
+        cardsHash ^= cardKey(DECK_PLACE, id, deck.countOf(id));
+        deck.addId(id);
+    }
+
+    /**
+     * Moves one copy of a card from the undealt pile to a player's hand.
+     *
+     * @param player the player
+     * @param id     the card id, present in the pile
+     */
+    public void dealToHand(int player, int id) {
+        deck.removeId(id);
+        cardsHash ^= cardKey(DECK_PLACE, id, deck.countOf(id));
+        addToHand(player, id);
+    }
+
+    /**
+     * Places a card on the table.
+     *
+     * @param id    the card id
+     * @param color its effective color (the declared color for wilds)
+     */
+    public void setTop(int id, int color) {
+        topId = id;
+        topColor = color;
+        if (COLOR[id] < CardIds.PLAYABLE_COLORS) {
+            played[COLOR[id]]++;
+        }
+    }
+
+    /**
+     * @param player the player to move
+     */
+    public void setToMove(int player) {
+        this.toMove = player;
+    }
+
+    /**
+     * @param colorChooser chooses wild colors for random moves; {@code null} names the color held most
+     */
+    public void setColorChooser(ColorChooser colorChooser) {
+        this.colorChooser = colorChooser;
+    }
+
+    /**
+     * @param deferDraws {@code true} to stop at every draw until {@link #resolveDraw(int)}
+     *                   names the card, {@code false} to sample draws
+     */
+    public void setDeferDraws(boolean deferDraws) {
+        this.deferDraws = deferDraws;
+    }
+
+    /**
+     * @return the cards still to be drawn before the next move; {@code 0} outside chance states
+     */
+    public int pendingDraws() {
+        return pendingDraws;
+    }
+
+    /**
+     * Draws a chosen card in a chance state. The game ends by score if the deck runs out.
+     *
+     * @param id a card id left in the deck
+     */
+    public void resolveDraw(int id) {
+        dealToHand(drawer, id);
+        pendingDraws--;
+        if (deck.isEmpty()) {
+            pendingDraws = 0;
+            winner = points[MACHINE] < points[HUMAN] ? MACHINE : HUMAN;
+        }
+    }
+
+    /**
+     * @param id a card id
+     * @return the copies of that card left in the deck
+     */
+    public int deckCount(int id) {
+        return deck.countOf(id);
+    }
+
+    /**
+     * @return a Zobrist hash of the hands, the deck, the top card, the player to move and the
+     *         pending draws; equal states have equal hashes
+     */
+    public long hash() {
+        long hash = cardsHash ^ TOP_KEYS[topId * COLORS + topColor];
+        if (toMove == HUMAN) {
+            hash ^= HUMAN_KEY;
+        }
+        if (pendingDraws > 0) {
+            hash ^= PENDING_KEYS[drawer * 5 + Math.min(pendingDraws, 4)];
+        }
+        return hash;
+    }
+
+    /**
+     * @return the legal card ids of the player to move, as a bitset
+     */
+    public long legalCards() {
+        return masks[toMove] & Playability.legalMask(topId, topColor, false);
+    }
+
+    /**
+     * Writes every legal move of the player to move into {@code moves}.
+     *
+     * @param moves buffer of at least {@link #MOVE_COUNT} entries
+     * @return the number of moves written
+     */
+    public int legalMoves(int[] moves) {
+        long legal = legalCards();
+        if (legal == 0L) {
+            moves[0] = DRAW;
+            return 1;
+        }
+        int count = 0;
+        for (long bits = legal; bits != 0L; bits &= bits - 1) {
+            int id = Long.numberOfTrailingZeros(bits);
+            if (id >= CardIds.WILD_ID) {
+                int first = id == CardIds.WILD_ID ? WILD_MOVE : DRAW_FOUR_MOVE;
+                for (int color = 0; color < CardIds.PLAYABLE_COLORS; color++) {
+                    moves[count++] = first + color;
+                }
+            } else {
+                moves[count++] = id;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Plays a move for the player to move.
+     *
+     * @param move an encoded move, legal in this state
+     */
+    public void apply(int move) {
+        turns++;
+        if (move == DRAW) {
+            draw(toMove, 1);
+            toMove = 1 - toMove;
+            return;
+        }
+        int id = cardOf(move);
+        int color = id >= CardIds.WILD_ID ? colorOf(move) : COLOR[id];
+
+        removeFromHand(toMove, id);
+        setTop(id, color);
+        if (sizes[toMove] == 0) {
+            winner = toMove;
+            return;
+        }
+
+        CardEffect effect = EFFECTS[id];
+        if (effect.getDrawPenalty() > 0) {
+            draw(1 - toMove, effect.getDrawPenalty());
+        }
+        if (!effect.keepsTurn()) {
+            toMove = 1 - toMove;
+        }
+    }
+
+    /**
+     * Picks a uniformly random legal card, or draws when none can be played.
+     *
+     * @return an encoded legal move
+     */
+    public int randomMove() {
+        long legal = legalCards();
+        if (legal == 0L) {
+            return DRAW;
+        }
+        for (int pick = random.nextInt(Long.bitCount(legal)); pick > 0; pick--) {
+            legal &= legal - 1;
+        }
+        int id = Long.numberOfTrailingZeros(legal);
+        if (id == CardIds.WILD_ID) {
+            return WILD_MOVE + chooseColor(toMove);
+        }
+        if (id == CardIds.DRAW_FOUR_ID) {
+            return DRAW_FOUR_MOVE + chooseColor(toMove);
+        }
+        return id;
+    }
+
+    /**
+     * Plays one random legal move.
+     *
+     * @return {@code true} while the game goes on
+     */
+    public boolean step() {
+        apply(randomMove());
+        return winner < 0;
+    }
+
+    /**
+     * Plays random legal moves until the game is over. The game always ends: every move
+     * either puts a card from a hand on the table or takes a card from the deck.
+     *
+     * @return the winning player
+     */
+    public int rollout() {
+        while (winner < 0) {
+            apply(randomMove());
+        }
+        return winner;
+    }
+
+    /**
+     * @return the player to move
+     */
+    public int toMove() {
+        return toMove;
+    }
+
+    /**
+     * @return {@code true} once a winner is known
+     */
+    public boolean isOver() {
+        return winner >= 0;
+    }
+
+    /**
+     * @return the winning player, or {@code -1} if the game is not over
+     */
+    public int winner() {
+        return winner;
+    }
+
+    /**
+     * @param player a player
+     * @return the number of cards the player holds
+     */
+    public int handSize(int player) {
+        return sizes[player];
+    }
+
+    /**
+     * @param player a player
+     * @return the card ids the player holds, as a bitset
+     */
+    public long handMask(int player) {
+        return masks[player];
+    }
+
+    /**
+     * @param player a player
+     * @return the point value of the player's hand
+     */
+    public int points(int player) {
+        return points[player];
+    }
+
+    /**
+     * @return the number of cards left in the deck
+     */
+    public int deckSize() {
+        return deck.size();
+    }
+
+    /**
+     * @return the id of the top card
+     */
+    public int topId() {
+        return topId;
+    }
+
+    /**
+     * @return the effective color of the top card
+     */
+    public int topColor() {
+        return topColor;
+    }
+
+    /**
+     * @return the number of moves applied since the game was set up
+     */
+    public int turns() {
+        return turns;
+    }
+
+    /**
+     * @param move an encoded move
+     * @return the card id played by the move, or {@code -1} for {@link #DRAW}
+     */
+    public static int cardOf(int move) {
+        if (move == DRAW) return -1;
+        if (move >= DRAW_FOUR_MOVE) return CardIds.DRAW_FOUR_ID;
+        if (move >= WILD_MOVE) return CardIds.WILD_ID;
+        return move;
+    }
+
+    /**
+     * @param move an encoded move
+     * @return the color declared by the move, or {@code -1} if it plays no wild card
+     */
+    public static int colorOf(int move) {
+        if (move == DRAW || move < WILD_MOVE) return -1;
+        return move >= DRAW_FOUR_MOVE ? move - DRAW_FOUR_MOVE : move - WILD_MOVE;
+    }
+
+    private static long cardKey(int place, int id, int copy) {
+        return CARD_KEYS[(place * CardIds.CARD_COUNT + id) * MAX_COPIES + (copy & (MAX_COPIES - 1))];
+    }
+
+    private void removeFromHand(int player, int id) {
+        int slot = player * CardIds.CARD_COUNT + id;
+        if (--counts[slot] == 0) {
+            masks[player] &= ~(1L << id);
+        }
+        cardsHash ^= cardKey(player, id, counts[slot]);
+        colors[player * COLORS + COLOR[id]]--;
+        sizes[player]--;
+        points[player] -= POINTS[id];
+    }
+
+    /**
+     * Deals cards to a player; the game ends by score as soon as the deck runs out.
+     */
+    private void draw(int player, int n) {
+        if (deferDraws && !deck.isEmpty()) {
+            pendingDraws = n;
+            drawer = player;
+            return;
+        }
+        for (int i = 0; i < n && !deck.isEmpty(); i++) {
+            addToHand(player, drawId());
+        }
+        if (deck.isEmpty()) {
+            winner = points[MACHINE] < points[HUMAN] ? MACHINE : HUMAN;
+        }
+    }
+
+    /**
+     * Removes a card from the deck by weighted sampling over the remaining copies.
+     */
+    private int drawId() {
+        int id = deck.takeId();
+        cardsHash ^= cardKey(DECK_PLACE, id, deck.countOf(id));
+        return id;
+    }
+
+    private int chooseColor(int player) {
+        if (colorChooser != null) {
+            return colorChooser.choose(colors, player * COLORS, played);
+        }
+        int offset = player * COLORS;
+        int best = 0;
+        for (int color = 1; color < CardIds.PLAYABLE_COLORS; color++) {
+            if (colors[offset + color] > colors[offset + best]) {
+                best = color;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.unogame.model.sim;
+
+import org.example.unogame.model.ai.ColorChooser;
+import org.example.unogame.model.ai.Difficulty;
+
+import java.util.SplittableRandom;
+
+/**
+ * Batch runs of random {@link SimGame}s, e.g., to compare how a setting changes the games.
+ *
+ * <p>Both players pick uniformly random legal cards; only the way they declare wild colors
+ * varies. Runs are reproducible for a given seed.</p>
+ */
+public final class Simulations {
+
+    private Simulations() {
+    }
+
+    /**
+     * Plays random games from a fresh deal and averages their length.
+     *
+     * @param difficulty how both players choose wild colors (see {@link ColorChooser})
+     * @param games      number of games to play
+     * @param seed       seed of the run
+     * @return the average number of moves per game
+     */
+    public static double averageTurns(Difficulty difficulty, int games, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        SimGame game = new SimGame(random);
+        long turns = 0;
+        for (int i = 0; i < games; i++) {
+            game.deal();
+            game.setColorChooser(new ColorChooser(difficulty, random));
+            game.rollout();
+            turns += game.turns();
+        }
+        return games == 0 ? 0 : (double) turns / games;
+    }
+}
@@ -0,0 +1,210 @@
+package org.example.unogame.model.table;
+
+import org.example.unogame.model.card.Card;
+import org.example.unogame.model.card.CardCode;
+import org.example.unogame.model.card.CardIds;
+import org.example.unogame.model.deck.Deck;
+import org.example.unogame.model.exception.GameException;
+
+import java.io.Serializable;
+
+/**
+ * Represents the shared table (discard pile/top card) in the Uno game.
+ *
+ * <p>This class stores the sequence of cards placed on the table as packed
+ * {@link CardCode} values, exposing operations to add a new top card, query the current
+ * top card (and its color), declare the color of a wild on top, and recycle discards
+ * back to a deck while keeping the top card in place.</p>
+ *
+ * <p>Cards are immutable, so the color declared for a wild is table state: it applies to
+ * the current top card and is cleared when the next card is placed. Discards therefore go
+ * back to the deck exactly as they were dealt, with no per-card normalization.</p>
+ *
+ * <p>The table also counts the colored cards played on it since the last recycle, per
+ * color, and keeps a bitset of their ids, for strategies that reason about which cards
+ * are left.</p>
+ *
+ * <h2>Thread-safety</h2>
+ * <p>All public methods are synchronized to provide basic thread-safety when
+ * accessed by multiple worker threads (e.g., human vs. machine turns). Callers
+ * should still avoid holding locks for extended periods and keep UI updates off
+ * the synchronized methods.</p>
+ */
+public class Table implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /** Codes of the cards placed on the table; {@code cardsTable[size - 1]} is the current top card.
+     *  Sized like the deck so the two can swap buffers when discards are recycled. */
+    private short[] cardsTable;
+
+    /** Number of cards on the table. */
+    private int size;
+
+    /** Color index declared for a wild top card; {@code BLACK} while none has been declared. */
+    private int declaredColor = CardIds.BLACK;
+
+    /** Colored cards on the table, per playable color index. */
+    private int[] playedColors = new int[CardIds.PLAYABLE_COLORS];
+
+    /** Card ids on the table as a bitset; exact because the game deck holds one copy of each card. */
+    private long cardMask;
+
+    /**
+     * Creates a table with an initially empty discard pile.
+     */
+    public Table() {
+        this.cardsTable = new short[Deck.CAPACITY];
+    }
+
+    /**
+     * Places a new card on top of the table.
+     *
+     * @param card the card to add
+     */
+    public synchronized void addCardOnTheTable(Card card){
+        addCodeOnTheTable(card.getCode());
+    }
+
+    /**
+     * Places a new card on top of the table.
+     *
+     * @param code the code of the card to add
+     */
+    public synchronized void addCodeOnTheTable(int code) {
+        if (size == cardsTable.length) {
+            // Keep message in Spanish by design
+            throw new IllegalStateException("La mesa está llena.");
+        }
+        cardsTable[size++] = (short) code;
+        declaredColor = CardIds.BLACK;
+        countPlayed(code);
+        cardMask |= 1L << CardCode.toId(code);
+    }
+
+    /**
+     * Returns the current top card on the table.
+     *
+     * @return the last (top) card placed on the table
+     * @throws GameException.EmptyTableException if the table has no cards
+     */
+    public synchronized Card getCurrentCardOnTheTable() throws GameException.EmptyTableException {
+        return Card.of(getTopCode());
+    }
+
+    /**
+     * Returns the code of the current top card.
+     *
+     * @return the code of the top card
+     * @throws GameException.EmptyTableException if the table has no cards
+     */
+    public synchronized int getTopCode() throws GameException.EmptyTableException {
+        if (size == 0) {
+            // Keep original Spanish string by design
+            throw new GameException.EmptyTableException("No hay cartas sobre la mesa.");
+        }
+        return cardsTable[size - 1];
+    }
+
+    /**
+     * Returns the color of the current top card on the table.
+     *
+     * @return the color of the top card
+     * @throws GameException.EmptyTableException if the table has no cards
+     */
+    public synchronized String getColorOnTheTable() throws GameException.EmptyTableException {
+        return CardIds.COLORS[getTopColor()];
+    }
+
+    /**
+     * Returns the effective color index of the current top card: the declared color for a wild,
+     * the printed color otherwise.
+     *
+     * @return the effective color index ({@code BLACK} for a wild whose color is not declared yet)
+     * @throws GameException.EmptyTableException if the table has no cards
+     */
+    public synchronized int getTopColor() throws GameException.EmptyTableException {
+        int top = getTopCode();
+        return CardCode.isWild(top) ? declaredColor : CardCode.colorOf(top);
+    }
+
+    /**
+     * Declares the color of the wild on top of the table (used after playing a WILD or +4).
+     * The card itself is not modified; the declaration lasts until the next card is placed.
+     *
+     * @param color the color to apply
+     * @throws GameException.EmptyTableException if the table has no cards
+     * @throws GameException.IllegalCardColor    if the provided color is not a known color
+     */
+    public synchronized void setColorOnTheTable(String color)
+            throws GameException.EmptyTableException, GameException.IllegalCardColor {
+        getTopCode();
+        int colorIndex = CardIds.colorIndex(color);
+        if (colorIndex < 0) {
+            throw new GameException.IllegalCardColor("Color cannot be null or empty when changing color.");
+        }
+        declaredColor = colorIndex;
+    }
+
+    /**
+     * Moves all discard cards from the table <em>except</em> the top card into an empty deck,
+     * leaving only the current top card in place.
+     *
+     * <p>This is used when the deck runs out. No card is copied: the deck takes this table's
+     * buffer as its own and hands its empty buffer back, where the top card is re-placed.
+     * Cards never change while on the table, so they go back exactly as they were played.
+     * Callers normally go through {@link Deck#takeCodeRecycling(Table)}.</p>
+     *
+     * @param deck the empty deck receiving the discards
+     * @return the number of recycled cards (0 if only the top card is on the table)
+     * @throws IllegalStateException if the deck is not empty
+     */
+    public synchronized int recycleInto(Deck deck) {
+        if (size <= 1) {
+            return 0;
+        }
+        short top = cardsTable[size - 1];
+        int recycled = size - 1;
+
+        // The top card stays behind the deck's top pointer in the handed-over buffer
+        cardsTable = deck.swapInDiscards(cardsTable, recycled);
+        cardsTable[0] = top;
+        size = 1;
+        playedColors = new int[CardIds.PLAYABLE_COLORS];
+        countPlayed(top);
+        cardMask = 1L << CardCode.toId(top);
+
+        return recycled;
+    }
+
+    /**
+     * @return the number of colored cards on the table per playable color index (a copy)
+     */
+    public synchronized int[] getPlayedColorCounts() {
+        return playedColors.clone();
+    }
+
+    /**
+     * @return the ids of the cards on the table as a bitset, i.e. the discards every player has seen
+     */
+    public synchronized long getCardMask() {
+        return cardMask;
+    }
+
+    /**
+     * Updates the per-color count for a card; wild cards are not counted.
+     */
+    private void countPlayed(int code) {
+        int color = CardCode.colorOf(code);
+        if (color < CardIds.PLAYABLE_COLORS) {
+            playedColors[color]++;
+        }
+    }
+
+    /**
+     * @return the current number of cards on the table
+     */
+    public synchronized int size() {
+        return size;
+    }
+}
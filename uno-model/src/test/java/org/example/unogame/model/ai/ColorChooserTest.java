@@ -0,0 +1,40 @@
+package org.example.unogame.model.ai;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.SplittableRandom;
+
+import org.example.unogame.model.card.Card;
+import org.example.unogame.model.card.CardIds;
+import org.example.unogame.model.player.HandMask;
+import org.junit.jupiter.api.Test;
+
+class ColorChooserTest {
+
+    @Test
+    void testChoose_namesTheColorHeldMost() {
+        HandMask hand = new HandMask();
+        hand.add(Card.of("3", "GREEN").getCode());
+        hand.add(Card.of("SKIP", "GREEN").getCode());
+        hand.add(Card.of("9", "RED").getCode());
+        hand.add(Card.of("WILD", "BLACK").getCode());
+
+        ColorChooser chooser = new ColorChooser(Difficulty.NORMAL, new SplittableRandom(1));
+        assertEquals("GREEN", chooser.chooseName(hand, new int[CardIds.PLAYABLE_COLORS]));
+    }
+
+    @Test
+    void testChoose_hardBreaksTiesTowardPlayedColors() {
+        HandMask hand = new HandMask();
+        hand.add(Card.of("3", "GREEN").getCode());
+        hand.add(Card.of("9", "BLUE").getCode());
+        int[] played = new int[CardIds.PLAYABLE_COLORS];
+        played[CardIds.colorIndex("BLUE")] = 5;
+        played[CardIds.colorIndex("GREEN")] = 2;
+
+        ColorChooser chooser = new ColorChooser(Difficulty.HARD, new SplittableRandom(1));
+        for (int i = 0; i < 20; i++) {
+            assertEquals(CardIds.colorIndex("BLUE"), chooser.choose(hand, played));
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.unogame.model.ai;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.SplittableRandom;
+
+import org.example.unogame.model.card.Card;
+import org.example.unogame.model.card.CardIds;
+import org.example.unogame.model.exception.GameException;
+import org.example.unogame.model.player.Player;
+import org.example.unogame.model.rules.RulesEngine;
+import org.junit.jupiter.api.Test;
+
+class EndgameSolverTest {
+
+    /**
+     * View of the last turns: the machine holds {@code hand} on {@code top}, the human holds
+     * {@code opponentHandSize} cards and every other card is in the deck.
+     */
+    private static MachineView endgame(Card top, int opponentHandSize, Card... hand) throws GameException {
+        Player machine = new Player("MACHINE_PLAYER");
+        for (Card card : hand) {
+            machine.addCard(card);
+        }
+        int deckSize = CardIds.CARD_COUNT - 1 - hand.length - opponentHandSize;
+        return new MachineView(machine, top.getCode(), CardIds.colorOf(top.getId()), opponentHandSize,
+                new int[CardIds.PLAYABLE_COLORS], 1L << top.getId(), deckSize, new RulesEngine());
+    }
+
+    @Test
+    void testSolve_findsTheWinningSequenceWithinTheBudget() throws GameException {
+        // The position of IsMctsStrategyTest#testChooseMove_findsTheWinningSequence
+        MachineView view = endgame(Card.of("7", "BLUE"), 2, Card.of("2", "BLUE"), Card.of("SKIP", "BLUE"));
+
+        EndgameSolver solver = new EndgameSolver(4, 100, 1 << 12);
+        assertTrue(solver.applies(view));
+
+        long start = System.nanoTime();
+        assertEquals(CardIds.idOf("SKIP", "BLUE"), solver.solve(view, new SplittableRandom(5)));
+        assertTrue((System.nanoTime() - start) / 1_000_000 < 1000);
+        assertTrue(solver.getLastDepth() >= 2);
+    }
+
+    @Test
+    void testTranspositionTable_evictsTheLeastRecentlyUsedPosition() {
+        TranspositionTable table = new TranspositionTable(2);
+        table.put(1L, 0.5, 3, false);
+        table.put(2L, 0.25, 3, false);
+        assertNotNull(table.get(1L, 3));
+        table.put(3L, 1.0, 1, true);
+
+        assertEquals(2, table.size());
+        assertNull(table.get(2L, 0));
+        assertNull(table.get(1L, 4));
+        assertNotNull(table.get(3L, 10));
+    }
+}
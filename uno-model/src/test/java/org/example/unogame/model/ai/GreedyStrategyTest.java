@@ -0,0 +1,34 @@
+package org.example.unogame.model.ai;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.SplittableRandom;
+
+import org.example.unogame.model.card.Card;
+import org.example.unogame.model.card.CardIds;
+import org.example.unogame.model.exception.GameException;
+import org.example.unogame.model.player.Player;
+import org.example.unogame.model.rules.RulesEngine;
+import org.junit.jupiter.api.Test;
+
+class GreedyStrategyTest {
+
+    @Test
+    void testChooseMove_shedsPointsAndSavesWilds() throws GameException {
+        Player machine = new Player("MACHINE_PLAYER");
+        machine.addCard(Card.of("WILD", "BLACK"));
+        machine.addCard(Card.of("2", "BLUE"));
+        machine.addCard(Card.of("+2", "BLUE"));
+        machine.addCard(Card.of("9", "RED"));
+        int top = Card.of("7", "BLUE").getCode();
+        MachineView view = new MachineView(machine, top, CardIds.colorIndex("BLUE"), 5,
+                new int[CardIds.PLAYABLE_COLORS], 1L << Card.of("7", "BLUE").getId(), 20, new RulesEngine());
+
+        IMachineStrategy greedy = MachineStrategyType.GREEDY.create(Difficulty.NORMAL, new SplittableRandom(1));
+        IMachineStrategy firstLegal = MachineStrategyType.FIRST_LEGAL.create(Difficulty.NORMAL, new SplittableRandom(1));
+
+        assertEquals(2, greedy.chooseMove(view));
+        assertEquals(0, firstLegal.chooseMove(view));
+        assertEquals(CardIds.colorIndex("BLUE"), greedy.chooseColor(view));
+    }
+}
@@ -0,0 +1,128 @@
+package org.example.unogame.model.ai;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import org.example.unogame.model.card.Card;
+import org.example.unogame.model.card.CardIds;
+import org.example.unogame.model.exception.GameException;
+import org.example.unogame.model.player.Player;
+import org.example.unogame.model.rules.RulesEngine;
+import org.junit.jupiter.api.Test;
+
+class IsMctsStrategyTest {
+
+    private static Player hand(Card... cards) throws GameException {
+        Player machine = new Player("MACHINE_PLAYER");
+        for (Card card : cards) {
+            machine.addCard(card);
+        }
+        return machine;
+    }
+
+    /**
+     * View with 20 cards in the deck; the last card of {@code table} is the top card.
+     */
+    private static MachineView view(Player machine, int opponentHandSize, Card... table) {
+        Card top = table[table.length - 1];
+        int[] playedColors = new int[CardIds.PLAYABLE_COLORS];
+        long tableMask = 0L;
+        for (Card card : table) {
+            playedColors[CardIds.colorOf(card.getId())]++;
+            tableMask |= 1L << card.getId();
+        }
+        return new MachineView(machine, top.getCode(), CardIds.colorOf(top.getId()), opponentHandSize,
+                playedColors, tableMask, 20, new RulesEngine());
+    }
+
+    private static IsMctsStrategy strategy(SearchBudget budget, ForkJoinPool pool) {
+        return new IsMctsStrategy(budget, pool,
+                new ColorChooser(Difficulty.NORMAL, new SplittableRandom(3)), new SplittableRandom(3));
+    }
+
+    @Test
+    void testChooseMove_findsTheWinningSequence() throws GameException {
+        // SKIP keeps the turn, so SKIP then 2 wins at once; 2 first lets the human answer
+        MachineView view = view(hand(Card.of("2", "BLUE"), Card.of("SKIP", "BLUE")), 1, Card.of("7", "BLUE"));
+
+        ForkJoinPool pool = new ForkJoinPool(2);
+        IsMctsStrategy strategy = strategy(SearchBudget.ofIterations(3000), pool);
+
+        assertEquals(1, strategy.chooseMove(view));
+        assertTrue(strategy.getLastPlayouts() >= 3000);
+        assertTrue(strategy.getPlayoutsPerSecond() > 0);
+        pool.shutdown();
+    }
+
+    @Test
+    void testChooseMove_keepsSearchingUntilTheThinkWindowCloses() throws GameException {
+        MachineView view = view(hand(Card.of("2", "BLUE"), Card.of("SKIP", "BLUE"), Card.of("5", "RED")), 5,
+                Card.of("7", "BLUE"));
+
+        ForkJoinPool pool = new ForkJoinPool(1);
+        IsMctsStrategy strategy = strategy(SearchBudget.ofMillis(1), pool);
+
+        long start = System.nanoTime();
+        strategy.chooseMove(view, start + 150_000_000L);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        assertTrue(elapsedMillis >= 140, "The search stopped after " + elapsedMillis + " ms");
+        assertTrue(strategy.getLastPlayouts() > 0);
+        pool.shutdown();
+    }
+
+    @Test
+    void testChooseMove_endgameKeepsItsTimeLimitUnderAnIterationBudget() throws GameException {
+        MachineView view = view(hand(Card.of("2", "BLUE"), Card.of("5", "BLUE")), 2, Card.of("7", "BLUE"));
+
+        ForkJoinPool pool = new ForkJoinPool(1);
+        IsMctsStrategy strategy = new IsMctsStrategy(SearchBudget.ofIterations(2000), pool,
+                new ColorChooser(Difficulty.NORMAL, new SplittableRandom(3)), new SplittableRandom(3),
+                new EndgameSolver(4, 100, 1 << 16));
+
+        // The solver stops at its own time limit, since the budget has none
+        int index = assertTimeoutPreemptively(Duration.ofSeconds(2), () -> strategy.chooseMove(view));
+        assertTrue(index == 0 || index == 1);
+        pool.shutdown();
+    }
+
+    @Test
+    void testPonder_stopsAtTheSliceDeadline() throws GameException {
+        MachineView humanToMove = view(hand(Card.of("2", "RED"), Card.of("5", "RED"), Card.of("SKIP", "BLUE")), 4,
+                Card.of("7", "BLUE"));
+
+        ForkJoinPool pool = new ForkJoinPool(1);
+        IsMctsStrategy strategy = strategy(SearchBudget.ofMillis(2000), pool);
+
+        long start = System.nanoTime();
+        strategy.ponder(humanToMove, start + 20_000_000L);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        assertTrue(elapsedMillis < 1000, "The slice ran for " + elapsedMillis + " ms");
+        pool.shutdown();
+    }
+
+    @Test
+    void testPonder_answersThePonderedPositionFromTheCache() throws GameException {
+        Player machine = hand(Card.of("2", "RED"), Card.of("5", "RED"), Card.of("SKIP", "BLUE"));
+        Card top = Card.of("7", "BLUE");
+        MachineView humanToMove = view(machine, 4, top);
+
+        ForkJoinPool pool = new ForkJoinPool(1);
+        IsMctsStrategy strategy = strategy(SearchBudget.ofIterations(300), pool);
+        int slices = 0;
+        while (strategy.ponder(humanToMove, System.nanoTime() + 1_000_000_000L)) {
+            slices++;
+        }
+        assertTrue(slices > 0);
+
+        // Without evidence, the first move pondered is the lowest legal card id: the red 7
+        MachineView machineToMove = view(machine, 3, top, Card.of("7", "RED"));
+
+        int index = strategy.chooseMove(machineToMove);
+        assertEquals(1, strategy.getPonderHits());
+        assertTrue(index == 0 || index == 1);
+        pool.shutdown();
+    }
+}
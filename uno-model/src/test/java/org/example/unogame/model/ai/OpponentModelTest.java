@@ -0,0 +1,69 @@
+package org.example.unogame.model.ai;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.SplittableRandom;
+
+import org.example.unogame.model.card.CardIds;
+import org.junit.jupiter.api.Test;
+
+class OpponentModelTest {
+
+    private static final long ALL_CARDS = (1L << CardIds.CARD_COUNT) - 1;
+
+    @Test
+    void testSample_avoidsADemandedColorTheHumanDidNotPlay() {
+        OpponentModel model = new OpponentModel();
+        int red = CardIds.colorIndex("RED");
+        model.opponentPassed(CardIds.WILD_ID, red);
+
+        OpponentModel.Sampler sampler = model.sampler(ALL_CARDS);
+        SplittableRandom random = new SplittableRandom(7);
+        int[] hand = new int[7];
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(7, sampler.sample(7, hand, random));
+            for (int id : hand) {
+                assertNotEquals(red, CardIds.colorOf(id));
+                assertTrue(id < CardIds.WILD_ID);
+            }
+        }
+    }
+
+    @Test
+    void testOpponentPassed_onADrawFourOnlyLowersTheDeclaredColor() {
+        OpponentModel model = new OpponentModel();
+        int red = CardIds.colorIndex("RED");
+        model.opponentPassed(CardIds.DRAW_FOUR_ID, red);
+
+        for (int id = 0; id < CardIds.CARD_COUNT; id++) {
+            if (CardIds.colorOf(id) == red) {
+                assertTrue(model.weight(id) < OpponentModel.DEFAULT_WEIGHT);
+            } else {
+                assertEquals(OpponentModel.DEFAULT_WEIGHT, model.weight(id));
+            }
+        }
+    }
+
+    @Test
+    void testSample_favorsTheDeclaredColor() {
+        OpponentModel model = new OpponentModel();
+        int blue = CardIds.colorIndex("BLUE");
+        model.opponentDeclared(blue);
+
+        OpponentModel.Sampler sampler = model.sampler(ALL_CARDS);
+        SplittableRandom random = new SplittableRandom(7);
+        int[] hand = new int[5];
+        int blueCards = 0;
+        int games = 2000;
+        for (int i = 0; i < games; i++) {
+            sampler.sample(5, hand, random);
+            for (int id : hand) {
+                if (CardIds.colorOf(id) == blue) {
+                    blueCards++;
+                }
+            }
+        }
+        // Without evidence a five-card hand holds 5 * 13 / 54 ≈ 1.2 blue cards
+        assertTrue(blueCards / (double) games > 1.6);
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.unogame.model.card;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.example.unogame.model.unoenum.UnoEnum;
+import org.junit.jupiter.api.Test;
+
+class CardCodeTest {
+
+    @Test
+    void testFromEnum_packsColorRankAndKind() {
+        int code = CardCode.fromEnum(UnoEnum.SKIP_GREEN);
+        assertEquals("SKIP", CardIds.RANKS[CardCode.rankOf(code)]);
+        assertEquals("GREEN", CardIds.COLORS[CardCode.colorOf(code)]);
+        assertEquals(CardCode.KIND_ACTION, CardCode.kindOf(code));
+        assertTrue(CardCode.isWild(CardCode.fromEnum(UnoEnum.FOUR_WILD_DRAW)));
+        assertTrue(CardCode.isNumber(CardCode.fromEnum(UnoEnum.RED_0)));
+        assertEquals(-1, CardCode.fromEnum(UnoEnum.FAVICON));
+    }
+
+    @Test
+    void testAssetOf_roundTripsEveryCardFace() {
+        for (UnoEnum cardEnum : UnoEnum.values()) {
+            int code = CardCode.fromEnum(cardEnum);
+            if (code >= 0) {
+                assertEquals(cardEnum, CardCode.assetOf(code));
+                assertEquals(code, CardCode.fromId(CardCode.toId(code)));
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.unogame.model.card;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class CardTest {
+
+    @Test
+    void testOf_returnsTheSameImmutableCatalogInstance() {
+        Card card = Card.of("7", "BLUE");
+        assertSame(card, Card.of(card.getCode()));
+        assertEquals("7", card.getValue());
+        assertEquals("BLUE", card.getColor());
+    }
+
+    @Test
+    void testOf_rejectsUnknownCards() {
+        assertThrows(IllegalArgumentException.class, () -> Card.of("7", "BLACK"));
+    }
+}
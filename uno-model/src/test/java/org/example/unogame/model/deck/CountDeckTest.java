@@ -0,0 +1,55 @@
+package org.example.unogame.model.deck;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.SplittableRandom;
+
+import org.example.unogame.model.card.Card;
+import org.example.unogame.model.card.CardIds;
+import org.example.unogame.model.exception.GameException;
+import org.junit.jupiter.api.Test;
+
+class CountDeckTest {
+
+    @Test
+    void testCountDeck_drawsTheStandardComposition() throws GameException {
+        CountDeck deck = new CountDeck(new SplittableRandom(7));
+        assertEquals(CountDeck.STANDARD_SIZE, deck.size());
+
+        int[] drawn = new int[CardIds.CARD_COUNT];
+        while (!deck.isEmpty()) {
+            drawn[deck.takeCard().getId()]++;
+        }
+        assertEquals(1, drawn[Card.of("0", "RED").getId()]);
+        assertEquals(2, drawn[Card.of("+2", "BLUE").getId()]);
+        assertEquals(4, drawn[CardIds.WILD_ID]);
+        assertEquals(4, drawn[CardIds.DRAW_FOUR_ID]);
+        assertThrows(GameException.OutOfCardsInDeck.class, deck::takeCode);
+    }
+
+    @Test
+    void testCopy_isIndependentOfTheOriginal() throws GameException {
+        CountDeck deck = new CountDeck(CountDeck.singleComposition(), new SplittableRandom(7));
+        int seven = Card.of("7", "GREEN").getCode();
+        assertTrue(deck.remove(seven));
+        assertFalse(deck.remove(seven));
+
+        CountDeck copy = deck.copy(new SplittableRandom(8));
+        copy.takeCode();
+        copy.add(seven);
+
+        assertEquals(CardIds.CARD_COUNT - 1, deck.size());
+        assertEquals(0, deck.count(seven));
+        assertEquals(1, copy.count(seven));
+    }
+
+    @Test
+    void testAdd_rejectsMoreCopiesThanACounterHolds() {
+        byte[] copies = new byte[CardIds.CARD_COUNT];
+        copies[CardIds.WILD_ID] = (byte) CountDeck.MAX_COPIES;
+        CountDeck deck = new CountDeck(copies, new SplittableRandom(7));
+
+        assertThrows(IllegalStateException.class, () -> deck.addId(CardIds.WILD_ID));
+        assertEquals(CountDeck.MAX_COPIES, deck.size());
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.unogame.model.deck;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.SplittableRandom;
+
+import org.example.unogame.model.exception.GameException;
+import org.example.unogame.model.player.Player;
+import org.junit.jupiter.api.Test;
+
+class DeckTest {
+
+    @Test
+    void testDeck_holdsEveryCardFaceOnce() throws GameException {
+        Deck deck = new Deck();
+        assertEquals(Deck.CAPACITY, deck.size());
+
+        boolean[] seen = new boolean[1 << 9];
+        while (!deck.isEmpty()) {
+            int code = deck.takeCode();
+            assertFalse(seen[code]);
+            seen[code] = true;
+        }
+        assertThrows(GameException.OutOfCardsInDeck.class, deck::takeCode);
+    }
+
+    @Test
+    void testShuffle_isReproducibleWithTheSameSeed() throws GameException {
+        Deck first = new Deck(new SplittableRandom(42));
+        Deck second = new Deck(new SplittableRandom(42));
+        while (!first.isEmpty()) {
+            assertEquals(first.takeCode(), second.takeCode());
+        }
+    }
+
+    @Test
+    void testDrawN_dealsFromTheTop() throws GameException {
+        Deck deck = new Deck();
+        Player player = new Player("HUMAN_PLAYER");
+        deck.drawN(player, 4);
+        assertEquals(4, player.getHandSize());
+        assertEquals(Deck.CAPACITY - 4, deck.size());
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.unogame.model.player;
+
+import org.example.unogame.model.card.Card;
+import org.example.unogame.model.card.CardIds;
+import org.example.unogame.model.exception.GameException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlayerTest {
+
+    @Test
+    void testAddCard_addsCardToPlayerHand() throws GameException.NullCardException {
+        Player player = new Player("Human");
+        Card card = Card.of("7", "BLUE");
+
+        player.addCard(card);
+
+        assertEquals(1, player.getCardsPlayer().size());
+        assertEquals(card, player.getCardsPlayer().get(0));
+    }
+
+    @Test
+    void testAddAndRemoveCard_notifyHandSizeChanged() throws GameException {
+        Player player = new Player("Human");
+        List<String> events = new ArrayList<>();
+        player.addObserver(events::add);
+
+        player.addCard(Card.of("7", "BLUE"));
+        player.removeCard(0);
+
+        assertEquals(List.of("HAND_SIZE_CHANGED", "HAND_SIZE_CHANGED"), events);
+    }
+
+    @Test
+    void testRemoveCard_downToOneCardNotifiesOneCardLeft() throws GameException {
+        Player player = new Player("Human");
+        player.addCard(Card.of("7", "BLUE"));
+        player.addCard(Card.of("3", "RED"));
+        List<String> events = new ArrayList<>();
+        player.addObserver(events::add);
+
+        player.removeCard(0);
+
+        assertEquals(List.of("HAND_SIZE_CHANGED", "ONE_CARD_LEFT"), events);
+    }
+
+    @Test
+    void testHandMask_keepsRunningTotals() throws GameException {
+        Player player = new Player("Machine");
+        player.addCard(Card.of("7", "BLUE"));
+        player.addCard(Card.of("+2", "BLUE"));
+        player.addCard(Card.of("+4", "BLACK"));
+        player.removeCard(0);
+
+        HandMask hand = player.getHandMask();
+        assertEquals(70, player.getPoints());
+        assertEquals(1, hand.colorCount(CardIds.colorIndex("BLUE")));
+        assertEquals(1, hand.wildCount());
+        assertEquals(1, hand.actionCount());
+    }
+}
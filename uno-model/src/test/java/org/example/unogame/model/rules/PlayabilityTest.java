@@ -0,0 +1,39 @@
+package org.example.unogame.model.rules;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.example.unogame.model.card.CardIds;
+import org.junit.jupiter.api.Test;
+
+class PlayabilityTest {
+
+    @Test
+    void testIsLegal_matchesColorRankAndWildRules() {
+        int blue7 = CardIds.idOf("7", "BLUE");
+        int blueColor = CardIds.colorIndex("BLUE");
+        assertTrue(Playability.isLegal(CardIds.idOf("2", "BLUE"), blue7, blueColor));
+        assertTrue(Playability.isLegal(CardIds.idOf("7", "RED"), blue7, blueColor));
+        assertFalse(Playability.isLegal(CardIds.idOf("2", "RED"), blue7, blueColor));
+        assertTrue(Playability.isLegal(CardIds.WILD_ID, blue7, blueColor));
+        assertTrue(Playability.isLegal(CardIds.idOf("SKIP", "RED"), CardIds.DRAW_FOUR_ID, CardIds.BLACK));
+        // A declared wild color is matched, the wild's printed color is not
+        assertTrue(Playability.isLegal(CardIds.idOf("3", "GREEN"), CardIds.WILD_ID, CardIds.colorIndex("GREEN")));
+        assertFalse(Playability.isLegal(CardIds.idOf("3", "RED"), CardIds.WILD_ID, CardIds.colorIndex("GREEN")));
+    }
+
+    @Test
+    void testIsLegal_nothingIsLegalWhileColorIsPending() {
+        for (int card = 0; card < CardIds.CARD_COUNT; card++) {
+            assertFalse(Playability.isLegal(card, CardIds.WILD_ID, CardIds.BLACK, true));
+        }
+    }
+
+    @Test
+    void testIdOf_coversEveryCardFaceOnce() {
+        assertEquals(54, CardIds.CARD_COUNT);
+        assertEquals(CardIds.WILD_ID, CardIds.idOf("WILD", "GREEN"));
+        int id = CardIds.idOf("+2", "YELLOW");
+        assertEquals("+2", CardIds.RANKS[CardIds.rankOf(id)]);
+        assertEquals("YELLOW", CardIds.COLORS[CardIds.colorOf(id)]);
+    }
+}
@@ -0,0 +1,72 @@
+package org.example.unogame.model.rules;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.example.unogame.model.card.Card;
+import org.example.unogame.model.card.CardIds;
+import org.example.unogame.model.exception.GameException;
+import org.example.unogame.model.player.Player;
+import org.junit.jupiter.api.Test;
+
+class RulesEngineTest {
+
+    private final RulesEngine rules = new RulesEngine();
+
+    @Test
+    void testCanPlay_matchesByColorOrValueOnly() {
+        Card top = Card.of("7", "BLUE");
+        assertTrue(rules.canPlay(Card.of("2", "BLUE"), top));
+        assertTrue(rules.canPlay(Card.of("7", "RED"), top));
+        assertFalse(rules.canPlay(Card.of("2", "RED"), top));
+        assertTrue(rules.canPlay(Card.of("WILD", "BLACK"), top));
+        assertTrue(rules.canPlay(Card.of("2", "RED"), Card.of("+4", "BLACK")));
+    }
+
+    @Test
+    void testCanPlay_usesColorDeclaredForWild() {
+        int wild = Card.of("WILD", "BLACK").getCode();
+        int green = CardIds.colorIndex("GREEN");
+        assertTrue(rules.canPlay(Card.of("3", "GREEN").getCode(), wild, green, false));
+        assertFalse(rules.canPlay(Card.of("3", "RED").getCode(), wild, green, false));
+        assertFalse(rules.canPlay(Card.of("3", "GREEN").getCode(), wild, green, true));
+    }
+
+    @Test
+    void testLegalMoves_returnsIndicesInHandOrder() {
+        List<Card> hand = List.of(Card.of("2", "RED"), Card.of("5", "BLUE"), Card.of("+4", "BLACK"));
+        Card top = Card.of("7", "BLUE");
+        int blue = CardIds.colorIndex("BLUE");
+        assertEquals(List.of(1, 2), rules.legalMoves(hand, top, blue));
+        assertEquals(1, rules.firstLegalMove(hand, top, blue));
+        assertEquals(-1, rules.firstLegalMove(List.of(Card.of("2", "RED")), top, blue));
+    }
+
+    @Test
+    void testLegalMask_intersectsHandWithTableState() throws GameException {
+        Player player = new Player("MACHINE_PLAYER");
+        player.addCard(Card.of("2", "RED"));
+        player.addCard(Card.of("5", "BLUE"));
+        int top = Card.of("7", "BLUE").getCode();
+        int blue = CardIds.colorIndex("BLUE");
+
+        assertEquals(1L << Card.of("5", "BLUE").getId(), rules.legalMask(player, top, blue, false));
+        assertEquals(1, rules.firstLegalMove(player, top, blue));
+        assertFalse(rules.hasLegalMove(player, top, blue, true));
+
+        player.removeCard(1);
+        assertFalse(rules.hasLegalMove(player, top, blue, false));
+        assertEquals(-1, rules.firstLegalMove(player, top, blue));
+    }
+
+    @Test
+    void testEffectOf_describesSpecialCards() {
+        assertEquals(CardEffect.NONE, rules.effectOf(Card.of("7", "BLUE")));
+        assertEquals(4, rules.effectOf(Card.of("+4", "BLACK")).getDrawPenalty());
+        assertTrue(rules.effectOf("SKIP").keepsTurn());
+        assertFalse(rules.effectOf("WILD").keepsTurn());
+        assertTrue(rules.isSpecial("RESERVE"));
+        assertFalse(rules.isSpecial("0"));
+    }
+}
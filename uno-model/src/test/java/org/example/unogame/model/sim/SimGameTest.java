@@ -0,0 +1,142 @@
+package org.example.unogame.model.sim;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.SplittableRandom;
+
+import org.example.unogame.model.ai.Difficulty;
+import org.example.unogame.model.card.CardIds;
+import org.example.unogame.model.deck.CountDeck;
+import org.junit.jupiter.api.Test;
+
+class SimGameTest {
+
+    private static int id(String value, String color) {
+        return CardIds.idOf(value, color);
+    }
+
+    private static SimGame game(int top, int... machineHand) {
+        SimGame game = new SimGame(new SplittableRandom(3));
+        for (int id : machineHand) {
+            game.addToHand(SimGame.MACHINE, id);
+        }
+        game.addToHand(SimGame.HUMAN, id("9", "BLUE"));
+        for (int i = 0; i < 10; i++) {
+            game.addToDeck(id(String.valueOf(i), "YELLOW"));
+        }
+        game.setTop(top, CardIds.colorOf(top));
+        game.setToMove(SimGame.MACHINE);
+        return game;
+    }
+
+    @Test
+    void testApply_followsTheTurnRulesOfTheGame() {
+        SimGame game = game(id("5", "RED"), id("+2", "RED"), id("SKIP", "RED"), id("4", "RED"));
+
+        game.apply(id("+2", "RED"));
+        assertEquals(3, game.handSize(SimGame.HUMAN));
+        assertEquals(SimGame.MACHINE, game.toMove());
+
+        game.apply(id("SKIP", "RED"));
+        assertEquals(SimGame.MACHINE, game.toMove());
+
+        game.apply(id("4", "RED"));
+        assertTrue(game.isOver());
+        assertEquals(SimGame.MACHINE, game.winner());
+    }
+
+    @Test
+    void testApply_wildDeclaresTheColorAndPassesTheTurn() {
+        SimGame game = game(id("5", "RED"), CardIds.WILD_ID, id("1", "GREEN"));
+
+        game.apply(SimGame.WILD_MOVE + CardIds.colorIndex("GREEN"));
+        assertEquals(CardIds.colorIndex("GREEN"), game.topColor());
+        assertEquals(SimGame.HUMAN, game.toMove());
+
+        game.apply(SimGame.DRAW);
+        assertEquals(2, game.handSize(SimGame.HUMAN));
+        assertEquals(SimGame.MACHINE, game.toMove());
+    }
+
+    @Test
+    void testDraw_emptyDeckEndsTheGameByPoints() {
+        SimGame game = new SimGame(new SplittableRandom(3));
+        game.addToHand(SimGame.MACHINE, id("7", "RED"));
+        game.addToHand(SimGame.HUMAN, id("7", "BLUE"));
+        game.addToDeck(id("0", "YELLOW"));
+        game.setTop(id("2", "GREEN"), CardIds.colorIndex("GREEN"));
+        game.setToMove(SimGame.MACHINE);
+
+        game.apply(SimGame.DRAW);
+        assertTrue(game.isOver());
+        // 7 + 0 against 7: a tie goes to the human
+        assertEquals(SimGame.HUMAN, game.winner());
+    }
+
+    @Test
+    void testHash_dependsOnlyOnTheState() {
+        SimGame first = game(id("5", "RED"), id("1", "RED"), id("2", "GREEN"));
+        SimGame second = game(id("5", "RED"), id("2", "GREEN"), id("1", "RED"));
+        assertEquals(first.hash(), second.hash());
+
+        first.apply(id("1", "RED"));
+        assertNotEquals(first.hash(), second.hash());
+        second.apply(id("1", "RED"));
+        assertEquals(first.hash(), second.hash());
+    }
+
+    @Test
+    void testResolveDraw_waitsForTheChosenCards() {
+        SimGame game = game(id("5", "RED"), id("+2", "RED"), id("4", "RED"));
+        game.setDeferDraws(true);
+
+        game.apply(id("+2", "RED"));
+        assertEquals(2, game.pendingDraws());
+        game.resolveDraw(id("3", "YELLOW"));
+        game.resolveDraw(id("7", "YELLOW"));
+        assertEquals(0, game.pendingDraws());
+        assertEquals(3, game.handSize(SimGame.HUMAN));
+        assertEquals(8, game.deckSize());
+        assertEquals(SimGame.MACHINE, game.toMove());
+    }
+
+    @Test
+    void testRollout_alwaysFinishes() {
+        SimGame base = new SimGame(new SplittableRandom(11));
+        SimGame game = new SimGame(new SplittableRandom(12));
+        for (int i = 0; i < 20_000; i++) {
+            base.deal();
+            game.copyFrom(base);
+            int winner = game.rollout();
+            assertTrue(winner == SimGame.MACHINE || winner == SimGame.HUMAN);
+            assertTrue(game.handSize(winner) == 0 || game.deckSize() == 0);
+        }
+    }
+
+    @Test
+    void testDeal_playsTheStandardDeck() {
+        SimGame game = new SimGame(new SplittableRandom(13));
+        for (int i = 0; i < 1_000; i++) {
+            game.deal(CountDeck.standardComposition());
+            // Action cards turned up for the top card are set aside, as in the game
+            assertTrue(game.deckSize() <= CountDeck.STANDARD_SIZE - 2 * SimGame.OPENING_HAND - 1);
+            assertTrue(game.deckSize() > CardIds.CARD_COUNT);
+            int winner = game.rollout();
+            assertTrue(game.handSize(winner) == 0 || game.deckSize() == 0);
+        }
+    }
+
+    @Test
+    void testAverageTurns_isReproducible() {
+        double normal = Simulations.averageTurns(Difficulty.NORMAL, 2_000, 5);
+        assertEquals(normal, Simulations.averageTurns(Difficulty.NORMAL, 2_000, 5));
+        assertTrue(normal > 0);
+    }
+
+    @Test
+    void testAverageTurns_namingTheColorHeldMostShortensTheGames() {
+        double easy = Simulations.averageTurns(Difficulty.EASY, 20_000, 5);
+        double normal = Simulations.averageTurns(Difficulty.NORMAL, 20_000, 5);
+        assertTrue(normal < easy, "NORMAL " + normal + " turns, EASY " + easy);
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.unogame.model.table;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.example.unogame.model.card.Card;
+import org.example.unogame.model.card.CardIds;
+import org.example.unogame.model.deck.Deck;
+import org.example.unogame.model.exception.GameException;
+import org.junit.jupiter.api.Test;
+
+class TableTest {
+
+    @Test
+    void testSetColorOnTheTable_declaresColorWithoutChangingTheCard() throws GameException {
+        Table table = new Table();
+        Card wild = Card.of("WILD", "BLACK");
+        table.addCardOnTheTable(wild);
+        table.setColorOnTheTable("RED");
+
+        assertEquals("RED", table.getColorOnTheTable());
+        assertEquals("BLACK", wild.getColor());
+
+        table.addCardOnTheTable(Card.of("5", "BLUE"));
+        assertEquals(CardIds.colorIndex("BLUE"), table.getTopColor());
+    }
+
+    @Test
+    void testTakeCodeRecycling_movesDiscardsIntoEmptyDeck() throws GameException {
+        Deck deck = new Deck();
+        Table table = new Table();
+        table.addCardOnTheTable(Card.of("+4", "BLACK"));
+        table.setColorOnTheTable("GREEN");
+        table.addCardOnTheTable(Card.of("3", "GREEN"));
+        while (!deck.isEmpty()) {
+            deck.takeCode();
+        }
+
+        int code = deck.takeCodeRecycling(table);
+
+        assertEquals(Card.of("+4", "BLACK").getCode(), code);
+        assertTrue(deck.isEmpty());
+        assertEquals(1, table.size());
+        assertEquals("3", table.getCurrentCardOnTheTable().getValue());
+        assertThrows(GameException.OutOfCardsInDeck.class, () -> deck.takeCodeRecycling(table));
+    }
+}